@@ -0,0 +1,172 @@
+package base.mobile;
+
+import constants.Products;
+import io.appium.java_client.AppiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.mobile.ProductDetailsPage;
+import pages.mobile.ProductsPage;
+import utils.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resets the app between tests with the strategy chosen in configuration and times every reset.
+ * With mobile.reset.strategy=auto, each supported strategy is tried once from a dirty state
+ * (a product in the cart) and the fastest one that leaves a verified clean state is used.
+ */
+public class AppResetter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppResetter.class);
+    private static final String AUTO = "auto";
+
+    private final String appId;
+    private final List<ResetStrategy> candidates;
+    private final Map<String, AtomicLong[]> timings = new ConcurrentHashMap<>();
+    private volatile ResetStrategy selected;
+
+    /**
+     * @param appId Android package or iOS bundle id of the app under test
+     * @param candidates strategies to choose from, in order of preference
+     */
+    public AppResetter(String appId, List<ResetStrategy> candidates) {
+        this.appId = appId;
+        this.candidates = new ArrayList<>(candidates);
+    }
+
+    /**
+     * Creates a resetter over the built-in strategies.
+     */
+    public static AppResetter withBuiltInStrategies(String appId) {
+        return new AppResetter(appId, List.of(ResetStrategies.values()));
+    }
+
+    /**
+     * Resets the app using the configured (or auto-picked) strategy.
+     * Falls back to terminate/activate, with a warning, if the strategy fails.
+     */
+    public void reset(AppiumDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        ResetStrategy strategy = getStrategy(driver);
+        try {
+            timedReset(strategy, driver);
+        } catch (Exception e) {
+            logger.warn("Reset strategy '{}' failed ({}) - falling back to '{}'",
+                    strategy.getName(), e.getMessage(), ResetStrategies.TERMINATE_ACTIVATE.getName());
+            timedReset(ResetStrategies.TERMINATE_ACTIVATE, driver);
+        }
+    }
+
+    /**
+     * Gets a one-line summary of reset counts and average durations per strategy.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder("App reset timings:");
+        timings.forEach((name, stats) -> report.append(String.format(" %s[count=%d, avgMs=%d]",
+                name, stats[0].get(), stats[0].get() == 0 ? 0 : stats[1].get() / stats[0].get())));
+        return report.toString();
+    }
+
+    // ==================== STRATEGY SELECTION ====================
+
+    private ResetStrategy getStrategy(AppiumDriver driver) {
+        if (selected == null) {
+            synchronized (this) {
+                if (selected == null) {
+                    selected = selectStrategy(driver);
+                    logger.info("Using app reset strategy '{}'", selected.getName());
+                }
+            }
+        }
+        return selected;
+    }
+
+    private ResetStrategy selectStrategy(AppiumDriver driver) {
+        String name = Config.get("mobile.reset.strategy", ResetStrategies.CLEAR_DATA.getName());
+        if (AUTO.equalsIgnoreCase(name)) {
+            return calibrate(driver);
+        }
+
+        ResetStrategy configured = candidates.stream()
+                .filter(strategy -> strategy.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+        if (configured == null) {
+            logger.warn("Unknown reset strategy '{}' - using '{}'", name, ResetStrategies.TERMINATE_ACTIVATE.getName());
+            return ResetStrategies.TERMINATE_ACTIVATE;
+        }
+        if (!configured.isSupported(driver)) {
+            logger.warn("Reset strategy '{}' is not supported on this session - using '{}'",
+                    name, ResetStrategies.TERMINATE_ACTIVATE.getName());
+            return ResetStrategies.TERMINATE_ACTIVATE;
+        }
+        return configured;
+    }
+
+    /**
+     * Tries every supported strategy from a dirty state and keeps the fastest verified one.
+     */
+    private ResetStrategy calibrate(AppiumDriver driver) {
+        ResetStrategy fastest = null;
+        long fastestMillis = Long.MAX_VALUE;
+
+        for (ResetStrategy strategy : candidates) {
+            if (!strategy.isSupported(driver)) {
+                continue;
+            }
+            try {
+                dirtyState();
+                long millis = timedReset(strategy, driver);
+                boolean clean = isCleanState();
+                logger.info("Calibration: '{}' took {} ms, clean state verified = {}", strategy.getName(), millis, clean);
+                if (clean && millis < fastestMillis) {
+                    fastest = strategy;
+                    fastestMillis = millis;
+                }
+            } catch (Exception e) {
+                logger.info("Calibration: '{}' failed: {}", strategy.getName(), e.getMessage());
+                // Leave the app in a usable state for the next candidate
+                ResetStrategies.TERMINATE_ACTIVATE.reset(driver, appId);
+            }
+        }
+        return fastest != null ? fastest : ResetStrategies.TERMINATE_ACTIVATE;
+    }
+
+    /**
+     * Puts a product in the cart so a reset has something to clear.
+     */
+    private void dirtyState() {
+        new ProductsPage().tapOnProduct(Products.BACKPACK);
+        ProductDetailsPage productDetailsPage = new ProductDetailsPage();
+        productDetailsPage.tapAddToCart();
+        productDetailsPage.goBackToProducts();
+    }
+
+    /**
+     * Checks the app shows the catalog with an empty cart.
+     */
+    private boolean isCleanState() {
+        ProductsPage productsPage = new ProductsPage();
+        return productsPage.isProductsScreenDisplayed() && productsPage.getCartBadgeCount() == 0;
+    }
+
+    // ==================== TIMING ====================
+
+    private long timedReset(ResetStrategy strategy, AppiumDriver driver) {
+        long start = System.currentTimeMillis();
+        strategy.reset(driver, appId);
+        long millis = System.currentTimeMillis() - start;
+
+        AtomicLong[] stats = timings.computeIfAbsent(strategy.getName(), key -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+        stats[0].incrementAndGet();
+        stats[1].addAndGet(millis);
+        logger.info("App reset via '{}' took {} ms", strategy.getName(), millis);
+        return millis;
+    }
+}
@@ -0,0 +1,205 @@
+package base.mobile;
+
+import constants.Colors;
+import constants.Products;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.mobile.CartPage;
+import pages.mobile.CheckoutPage;
+import pages.mobile.LoginPage;
+import pages.mobile.ProductsPage;
+import utils.DriverManager;
+import utils.Form;
+import utils.PageLocators;
+import utils.ScreenSnapshot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Puts the app straight into a test's precondition instead of clicking through the UI to get there.
+ * Cart contents are added with one cart deep link (mydemoapprn://cart/id=1&amount=2&color=blue,...),
+ * which the app handles like "Add To Cart" for each item. The app has no deep link or seedable
+ * store for a logged-in user, so logging in deep-links to the login screen and fills it in one go.
+ * apply() ends on the login screen if asked to, else on the cart screen (or the catalog when no
+ * cart is declared), and checks the result with one screen snapshot. Cart items are added to what
+ * the cart already holds, so apply() is meant for a freshly reset app.
+ */
+public class AppState {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppState.class);
+    private static final String SCHEME = "mydemoapprn://";
+
+    private final String appId;
+    private final Map<String, CartItem> cart = new LinkedHashMap<>();
+    private String username;
+    private String password;
+    private boolean onLoginScreen;
+
+    private AppState(String appId) {
+        this.appId = appId;
+    }
+
+    /**
+     * Starts declaring the state of the app with the given package / bundle id.
+     */
+    public static AppState given(String appId) {
+        return new AppState(appId);
+    }
+
+    /**
+     * Declares a logged-in user.
+     */
+    public AppState loggedInAs(String username, String password) {
+        this.username = username;
+        this.password = password;
+        return this;
+    }
+
+    /**
+     * Declares one unit of a product in its default color.
+     */
+    public AppState withCartItem(Products product) {
+        return withCartItem(product, null, 1);
+    }
+
+    /**
+     * Declares a product in the cart. The same product and color declared twice adds up.
+     * @param color the color to add, or null for the product's default color
+     */
+    public AppState withCartItem(Products product, Colors color, int amount) {
+        if (amount < 1) {
+            throw new IllegalArgumentException("Cart amount must be at least 1, was " + amount);
+        }
+        cart.merge(product + "/" + color, new CartItem(product, color, amount),
+                (known, added) -> new CartItem(product, color, known.amount + added.amount));
+        return this;
+    }
+
+    /**
+     * Ends on the login screen, for tests of the login itself.
+     */
+    public AppState onLoginScreen() {
+        this.onLoginScreen = true;
+        return this;
+    }
+
+    // ==================== APPLY ====================
+
+    /**
+     * Brings the app into the declared state and verifies it.
+     * @throws IllegalStateException if the login fails or the cart does not show the declared items
+     */
+    public void apply() {
+        long start = System.currentTimeMillis();
+        AppiumDriver driver = (AppiumDriver) DriverManager.getDriver();
+        if (username != null) {
+            logIn(driver);
+        }
+        if (!cart.isEmpty()) {
+            ResetStrategies.openDeepLink(driver, appId, getCartLink());
+            verifyCart(new CartPage().readCart());
+        }
+        if (onLoginScreen) {
+            ResetStrategies.openDeepLink(driver, appId, SCHEME + "login");
+            ScreenSnapshot.captureWhenPresent(PageLocators.of(new LoginPage(), "loginScreen"));
+        } else if (cart.isEmpty()) {
+            ResetStrategies.openDeepLink(driver, appId, SCHEME + "store-overview");
+            ScreenSnapshot.captureWhenPresent(PageLocators.of(new ProductsPage(), "productsScreen"));
+        }
+        logger.info("Applied app state (user {}, cart {}) in {} ms",
+                username, cart.values(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Gets the deep link that adds the declared cart items, e.g. mydemoapprn://cart/id=1&amount=2&color=blue.
+     */
+    String getCartLink() {
+        return SCHEME + "cart/" + cart.values().stream().map(CartItem::toLinkData).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Logs in from the deep-linked login screen. Without a return route the app moves on to the
+     * checkout address screen, which confirms the login.
+     */
+    private void logIn(AppiumDriver driver) {
+        LoginPage loginPage = new LoginPage();
+        ResetStrategies.openDeepLink(driver, appId, SCHEME + "login");
+        Form.of(loginPage)
+                .set("userNameField", username)
+                .set("passwordField", password)
+                .fill();
+        loginPage.tapOnLoginButton();
+        By addressScreen = PageLocators.of(new CheckoutPage(), "checkoutAddressScreen");
+        ScreenSnapshot snapshot = ScreenSnapshot.captureWhenPresent(addressScreen,
+                PageLocators.of(loginPage, "usernameErrorMessage"),
+                PageLocators.of(loginPage, "passwordErrorMessage"),
+                PageLocators.of(loginPage, "genericErrorMessage"));
+        if (!snapshot.isPresent(addressScreen)) {
+            throw new IllegalStateException("Could not log in as " + username);
+        }
+    }
+
+    /**
+     * Compares the cart screen with the declared items, ignoring row order.
+     * Each item needs a row of its own with the same name, quantity and color; an item declared
+     * without a color matches whichever default the app picked.
+     */
+    private void verifyCart(CartPage.CartContents contents) {
+        List<String> names = contents.getProductNames();
+        List<Integer> quantities = contents.getQuantities();
+        List<Colors> colors = contents.getColors();
+        List<Integer> unmatchedRows = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            unmatchedRows.add(i);
+        }
+        for (CartItem item : cart.values()) {
+            Integer row = unmatchedRows.stream()
+                    .filter(i -> item.matches(names.get(i), i < quantities.size() ? quantities.get(i) : 0,
+                            i < colors.size() ? colors.get(i) : null))
+                    .findFirst()
+                    .orElse(null);
+            if (row == null) {
+                throw new IllegalStateException("Cart should hold " + cart.values() + " but shows " + contents);
+            }
+            unmatchedRows.remove(row);
+        }
+        if (!unmatchedRows.isEmpty()) {
+            throw new IllegalStateException("Cart should hold " + cart.values() + " but shows " + contents);
+        }
+    }
+
+    private static class CartItem {
+        final Products product;
+        final Colors color;
+        final int amount;
+
+        CartItem(Products product, Colors color, int amount) {
+            this.product = product;
+            this.color = color;
+            this.amount = amount;
+        }
+
+        boolean matches(String name, int shownAmount, Colors shownColor) {
+            return product.getName().equals(name) && amount == shownAmount && (color == null || color == shownColor);
+        }
+
+        /**
+         * Formats the item the way the app's cart deep link parses it; without a color the app picks the default.
+         */
+        String toLinkData() {
+            String data = "id=" + product.getIndex() + "&amount=" + amount;
+            return color == null ? data : data + "&color=" + color.name().toLowerCase();
+        }
+
+        @Override
+        public String toString() {
+            return amount + "x " + product.getName() + (color == null ? "" : " (" + color.name().toLowerCase() + ")");
+        }
+    }
+}
@@ -1,93 +1,318 @@
 package base.mobile;
 
+import utils.CommandMetrics;
 import utils.Config;
+import utils.Device;
+import utils.DevicePool;
 import utils.DriverManager;
+import utils.LocatorProfiler;
+import utils.ReplayServer;
 import utils.ReportUtils;
+import utils.SessionRecorder;
+import utils.SessionWarmer;
+import utils.SessionWatchdog;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
-import org.testng.annotations.BeforeSuite;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 public class BaseTest {
-    public static AppiumDriver driver;
+    private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     private static String platformName = Config.get("platformName", "ZZZ");
-    private static String appPackage;
+    private static final String appPackage = "com.saucelabs.mydemoapp.rn";
+    private static final int leaseTimeoutSeconds = Integer.parseInt(Config.get("mobile.device.leaseTimeout", "300"));
+    private static final DevicePool devicePool = DevicePool.fromConfig(platformName);
+    private static final Map<WebDriver, Device> sessionDevices = new ConcurrentHashMap<>();
+    private static final BlockingQueue<AppiumDriver> idleSessions = new LinkedBlockingQueue<>();
+    private static final AppResetter appResetter = AppResetter.withBuiltInStrategies(appPackage);
+    private static final SessionWarmer warmer = new SessionWarmer("mobile", BaseTest::createPooledDriver);
+    private static final SessionWatchdog watchdog = new SessionWatchdog("mobile");
+    private static final boolean adviseLocators = Boolean.parseBoolean(Config.get("locators.profile.advise", "false"));
+    private static ReplayServer replayServer;
 
-    @BeforeSuite
-    public static void setUp() throws MalformedURLException {
+    @BeforeMethod
+    public void setUp() {
+        // Sessions stay open for the whole suite; each test leases one (and its device)
+        // the first time it uses the driver, with the app already reset
+        DriverManager.setDriverFactory(() -> {
+            AppiumDriver driver = leaseSession();
+            // Bound before resetting: in-app resets and calibration build page objects on this thread's driver
+            DriverManager.setDriver(driver);
+            try {
+                appResetter.reset(driver);
+            } catch (RuntimeException e) {
+                // A session left in an unknown state is not handed to another test; its device is freed
+                DriverManager.clearDriver();
+                recycleSession(driver);
+                throw e;
+            }
+            return driver;
+        });
+    }
+
+    /**
+     * Starts opening Appium sessions in the background before the first test needs one.
+     * Never warms more sessions than there are devices.
+     * Called by SessionPreWarmer while TestNG is still building the suite.
+     */
+    public static void prewarm(int count) {
+        warmer.start(Math.min(count, devicePool.size()));
+    }
+
+    /**
+     * Leases a session bound to a device: an idle one, a pre-warmed one,
+     * a new one on a free device, or else waits for another test to return one.
+     * Idle sessions the watchdog found hung are replaced with a new session on the same device.
+     */
+    private static AppiumDriver leaseSession() {
+        AppiumDriver driver = pollHealthySession();
+        if (driver == null) {
+            driver = (AppiumDriver) warmer.take();
+        }
+        if (driver == null) {
+            driver = createPooledDriver();
+        }
+        if (driver == null) {
+            try {
+                driver = idleSessions.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+                if (driver != null && !watchdog.checkOut(driver)) {
+                    recycleSession(driver);
+                    driver = createPooledDriver();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (driver == null) {
+                throw new IllegalStateException("No device became free within " + leaseTimeoutSeconds
+                        + "s - keep thread.count at or below the number of devices (" + devicePool.size() + ")");
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * Takes an idle session that still responds, recycling any hung ones on the way.
+     */
+    private static AppiumDriver pollHealthySession() {
+        AppiumDriver driver;
+        while ((driver = idleSessions.poll()) != null) {
+            if (watchdog.checkOut(driver)) {
+                return driver;
+            }
+            recycleSession(driver);
+        }
+        return null;
+    }
+
+    /**
+     * Drops a hung or broken session and frees its device for a new session.
+     */
+    private static void recycleSession(AppiumDriver driver) {
+        watchdog.quitInBackground(driver);
+        Device device = sessionDevices.remove(driver);
+        if (device != null) {
+            devicePool.release(device);
+        }
+    }
+
+    /**
+     * Leases a free device and opens a session on it.
+     * @return the new session, or null if every device is in use
+     */
+    private static AppiumDriver createPooledDriver() {
+        Device device = devicePool.tryLease();
+        if (device == null) {
+            return null;
+        }
+        AppiumDriver driver = null;
+        try {
+            driver = createDriver(device);
+        } finally {
+            if (driver == null) {
+                devicePool.release(device);
+            }
+        }
+        if (driver != null) {
+            sessionDevices.put(driver, device);
+        }
+        return driver;
+    }
+
+    /**
+     * Creates a new Appium session on the given device for the configured platform.
+     */
+    public static AppiumDriver createDriver(Device device) {
         DesiredCapabilities caps = new DesiredCapabilities();
         caps.setCapability("platformName", platformName);
+        caps.setCapability("deviceName", device.getDeviceName());
+        if (device.getUdid() != null) {
+            caps.setCapability("udid", device.getUdid());
+        }
 
         if (platformName.equalsIgnoreCase("Android")) {
             String appPath = System.getProperty("user.dir") + "/src/main/resources/AndroidDemo.apk";
-            appPackage = "com.saucelabs.mydemoapp.rn";
-            caps.setCapability("deviceName", "emulator-5554");
             caps.setCapability("automationName", "UIAutomator2");
             caps.setCapability("app", appPath);
-            driver = new AndroidDriver(new URL("http://127.0.0.1:4723/"), caps);
+            if (device.getSystemPort() > 0) {
+                caps.setCapability("systemPort", device.getSystemPort());
+            }
+            if (device.getChromedriverPort() > 0) {
+                caps.setCapability("chromedriverPort", device.getChromedriverPort());
+            }
+            return metered(new AndroidDriver(getServerUrl(device), getHttpClientFactory(), caps));
         } else if (platformName.equalsIgnoreCase("iOS")) {
             String appPath = System.getProperty("user.dir") + "/src/main/resources/iOSDemo.app";
-            appPackage = "com.saucelabs.mydemoapp.rn";
-            caps.setCapability("deviceName", "iPhone 16 Pro");
             caps.setCapability("automationName", "XCUITest");
-            caps.setCapability("platformVersion", "18.2");
+            caps.setCapability("platformVersion", device.getPlatformVersion());
             caps.setCapability("app", appPath);
-            driver = new IOSDriver(new URL("http://127.0.0.1:4723/"), caps);
+            if (device.getWdaLocalPort() > 0) {
+                caps.setCapability("wdaLocalPort", device.getWdaLocalPort());
+            }
+            return metered(new IOSDriver(getServerUrl(device), getHttpClientFactory(), caps));
         }
+        return null;
+    }
 
-        // Set driver in DriverManager for Actions/Validations
-        DriverManager.setDriver(driver);
+    private static AppiumDriver metered(AppiumDriver driver) {
+        CommandMetrics.install(driver);
+        return driver;
     }
 
-    @BeforeMethod
-    public void resetApp() {
-        // Reset app to initial state before each test
-        if (driver != null && appPackage != null) {
+    /**
+     * Gets the Appium server URL of a device.
+     * With session.replay every session talks to a local ReplayServer instead.
+     */
+    private static URL getServerUrl(Device device) {
+        String replayFile = Config.get("session.replay", null);
+        String serverUrl = replayFile != null ? getReplayServer(replayFile).getUrl() : device.getAppiumUrl();
+        try {
+            return new URL(serverUrl);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid Appium server URL for " + device, e);
+        }
+    }
+
+    /**
+     * Gets the HTTP client factory for new sessions.
+     * With session.record every command and response is written to the given file.
+     */
+    private static HttpClient.Factory getHttpClientFactory() {
+        HttpClient.Factory factory = HttpClient.Factory.createDefault();
+        String recordFile = Config.get("session.record", null);
+        return recordFile != null ? new SessionRecorder(Paths.get(recordFile)).wrap(factory) : factory;
+    }
+
+    private static synchronized ReplayServer getReplayServer(String recording) {
+        if (replayServer == null) {
             try {
-                if (driver instanceof AndroidDriver) {
-                    AndroidDriver androidDriver = (AndroidDriver) driver;
-                    // Clear app data and reopen
-                    androidDriver.executeScript("mobile: clearApp", java.util.Map.of("appId", appPackage));
-                    androidDriver.activateApp(appPackage);
-                } else if (driver instanceof IOSDriver) {
-                    IOSDriver iosDriver = (IOSDriver) driver;
-                    iosDriver.terminateApp(appPackage);
-                    iosDriver.activateApp(appPackage);
-                }
-            } catch (Exception e) {
-                // Fallback: just restart the app without clearing
-                if (driver instanceof AndroidDriver) {
-                    ((AndroidDriver) driver).terminateApp(appPackage);
-                    ((AndroidDriver) driver).activateApp(appPackage);
-                } else if (driver instanceof IOSDriver) {
-                    ((IOSDriver) driver).terminateApp(appPackage);
-                    ((IOSDriver) driver).activateApp(appPackage);
-                }
+                replayServer = new ReplayServer(Paths.get(recording));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot replay session recording " + recording, e);
             }
         }
+        return replayServer;
+    }
+
+    /**
+     * Resets the app to its initial state before each test.
+     * The strategy is chosen with mobile.reset.strategy (see ResetStrategies).
+     */
+    public void resetApp() {
+        appResetter.reset(getDriver());
+    }
+
+    /**
+     * Starts declaring a test's precondition (logged-in user, cart contents) to inject instead of
+     * building it through the UI, e.g. givenAppState().withCartItem(Products.BACKPACK).apply().
+     */
+    protected AppState givenAppState() {
+        return AppState.given(appPackage);
     }
 
     @AfterMethod
-    public void captureOnFailure(ITestResult result) {
+    public void releaseSession(ITestResult result) {
+        if (!DriverManager.hasDriver()) {
+            // The test never used the driver, so no session was leased
+            DriverManager.clearDriver();
+            return;
+        }
+        AppiumDriver driver = getDriver();
         // Capture screenshot on failure
-        if (result.getStatus() == ITestResult.FAILURE && driver != null) {
+        if (result.getStatus() == ITestResult.FAILURE) {
             ReportUtils.captureScreenshot(driver, "Failure Screenshot");
         }
+        if (adviseLocators) {
+            adviseLocators(driver);
+        }
+        // Hand the session back so the next test on any thread can reuse its device
+        DriverManager.clearDriver();
+        // A session that failed its test may be what failed, so it is pinged before its next lease
+        watchdog.watch(driver, result.isSuccess());
+        idleSessions.offer(driver);
+    }
+
+    /**
+     * Tries faster locators for the slow ones on the screen the test ended on.
+     */
+    private static void adviseLocators(AppiumDriver driver) {
+        try {
+            LocatorProfiler.advise(driver);
+        } catch (RuntimeException e) {
+            logger.warn("Locator advice skipped: {}", e.getMessage());
+        }
     }
 
     @AfterSuite
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            DriverManager.clearDriver();
+        watchdog.shutdown();
+        List<WebDriver> sessions = new ArrayList<>();
+        idleSessions.drainTo(sessions);
+        sessions.addAll(warmer.drain());
+        for (WebDriver driver : sessions) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.warn("Failed to quit mobile session: {}", e.getMessage());
+            }
         }
+        logger.info(warmer.getReport());
+        logger.info(appResetter.getReport());
+        logger.info(watchdog.getReport());
+        DriverManager.quitAll();
+        sessionDevices.values().forEach(devicePool::release);
+        sessionDevices.clear();
+        synchronized (BaseTest.class) {
+            if (replayServer != null) {
+                replayServer.stop();
+                replayServer = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the Appium driver leased by the current test, leasing it on first use.
+     */
+    protected AppiumDriver getDriver() {
+        return (AppiumDriver) DriverManager.getDriver();
     }
 }
@@ -0,0 +1,149 @@
+package base.mobile;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import pages.mobile.HomePage;
+import utils.Config;
+import utils.ElementCache;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Built-in app reset strategies.
+ */
+public enum ResetStrategies implements ResetStrategy {
+
+    /**
+     * Clears app data and relaunches (Android only).
+     */
+    CLEAR_DATA("clearData") {
+        @Override
+        public boolean isSupported(AppiumDriver driver) {
+            return driver instanceof AndroidDriver;
+        }
+
+        @Override
+        public void reset(AppiumDriver driver, String appId) {
+            driver.executeScript("mobile: clearApp", Map.of("appId", appId));
+            ((InteractsWithApps) driver).activateApp(appId);
+        }
+    },
+
+    /**
+     * Terminates and relaunches the app. Keeps persisted data such as a logged-in user.
+     */
+    TERMINATE_ACTIVATE("terminate") {
+        @Override
+        public boolean isSupported(AppiumDriver driver) {
+            return driver instanceof InteractsWithApps;
+        }
+
+        @Override
+        public void reset(AppiumDriver driver, String appId) {
+            ((InteractsWithApps) driver).terminateApp(appId);
+            ((InteractsWithApps) driver).activateApp(appId);
+        }
+    },
+
+    /**
+     * Uses the app's own "Reset App State" menu item, then returns to the catalog.
+     */
+    IN_APP("inApp") {
+        @Override
+        public boolean isSupported(AppiumDriver driver) {
+            return true;
+        }
+
+        @Override
+        public void reset(AppiumDriver driver, String appId) {
+            HomePage homePage = new HomePage();
+            homePage.tapOnMenuItemResetApp();
+            try {
+                // The app confirms the reset with a native dialog
+                driver.switchTo().alert().accept();
+            } catch (Exception ignored) {
+                // No dialog on this platform/version
+            }
+            homePage.tapOnMenuItemCatalog();
+        }
+    },
+
+    /**
+     * Opens the deep link configured in mobile.reset.deepLink.
+     */
+    DEEP_LINK("deepLink") {
+        @Override
+        public boolean isSupported(AppiumDriver driver) {
+            return driver instanceof AndroidDriver || driver instanceof IOSDriver;
+        }
+
+        @Override
+        public void reset(AppiumDriver driver, String appId) {
+            openDeepLink(driver, appId, Config.get("mobile.reset.deepLink", "mydemoapprn://store-overview"));
+        }
+    },
+
+    /**
+     * Restores the emulator snapshot named in mobile.reset.snapshot through adb (local Android emulators only).
+     */
+    SNAPSHOT("snapshot") {
+        @Override
+        public boolean isSupported(AppiumDriver driver) {
+            return driver instanceof AndroidDriver
+                    && Config.get("mobile.reset.snapshot", null) != null
+                    && getUdid(driver) != null && getUdid(driver).startsWith("emulator-");
+        }
+
+        @Override
+        public void reset(AppiumDriver driver, String appId) {
+            String snapshot = Config.get("mobile.reset.snapshot", null);
+            List<String> command = List.of("adb", "-s", getUdid(driver), "emu", "avd", "snapshot", "load", snapshot);
+            try {
+                Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+                if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                    throw new IllegalStateException("Snapshot restore failed: " + String.join(" ", command));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not run adb to restore snapshot", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while restoring snapshot", e);
+            }
+            ((InteractsWithApps) driver).activateApp(appId);
+        }
+    };
+
+    private final String name;
+
+    ResetStrategies(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Opens a deep link in the app. Also used by AppState to inject preconditions.
+     * The link changes screens, so cached elements and reads are dropped.
+     */
+    static void openDeepLink(AppiumDriver driver, String appId, String url) {
+        if (driver instanceof AndroidDriver) {
+            driver.executeScript("mobile: deepLink", Map.of("url", url, "package", appId));
+        } else {
+            driver.get(url);
+        }
+        ElementCache.invalidateAll();
+    }
+
+    private static String getUdid(AppiumDriver driver) {
+        Object udid = driver.getCapabilities().getCapability("udid");
+        return udid != null ? udid.toString() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package base.mobile;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * A way of putting the app under test back into its initial state between tests.
+ * Implementations are selected through the mobile.reset.strategy setting.
+ */
+public interface ResetStrategy {
+
+    /**
+     * Gets the name used to select this strategy in configuration.
+     */
+    String getName();
+
+    /**
+     * Checks if the strategy can run on the given session (platform, device type, settings).
+     */
+    boolean isSupported(AppiumDriver driver);
+
+    /**
+     * Resets the app.
+     * @param driver the session to reset
+     * @param appId Android package or iOS bundle id of the app under test
+     */
+    void reset(AppiumDriver driver, String appId);
+}
@@ -1,6 +1,6 @@
 package base.web;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -10,21 +10,51 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import utils.CommandMetrics;
 import utils.Config;
+import utils.DriverBinaryResolver;
 import utils.DriverManager;
+import utils.NetworkBlocker;
+import utils.PageReadiness;
 import utils.ReportUtils;
+import utils.WebSessionPool;
 
 public class BaseTest {
-    public static WebDriver driver;
     private static String browser = Config.get("browser", "chrome");
     private static boolean headless = Boolean.parseBoolean(Config.get("headless", "false"));
+    private static PageLoadStrategy pageLoadStrategy = PageReadiness.getPageLoadStrategy();
+    private static boolean poolEnabled = Boolean.parseBoolean(Config.get("web.pool.enabled", "true"));
+    private static WebSessionPool sessionPool;
 
     @BeforeMethod
     public void setUp() {
+        // The browser is only leased when the test first uses the driver (Actions/Validations/pages)
+        DriverManager.setDriverFactory(BaseTest::leaseDriver);
+    }
+
+    /**
+     * Leases a pooled session (or starts a new one) for the current test.
+     */
+    private static WebDriver leaseDriver() {
+        WebDriver driver = poolEnabled ? getSessionPool().lease() : createDriver();
+        if (!headless) {
+            driver.manage().window().maximize();
+        }
+        NetworkBlocker.startTest(driver);
+        return driver;
+    }
+
+    /**
+     * Starts a new browser session for the configured browser.
+     */
+    private static WebDriver createDriver() {
+        WebDriver driver = null;
         if (browser.equalsIgnoreCase("chrome")) {
-            WebDriverManager.chromedriver().setup();
+            DriverBinaryResolver.resolve("chrome");
             ChromeOptions options = new ChromeOptions();
+            options.setPageLoadStrategy(pageLoadStrategy);
             if (headless) {
                 options.addArguments("--headless=new");
                 options.addArguments("--window-size=1920,1080");
@@ -34,8 +64,9 @@ public class BaseTest {
             }
             driver = new ChromeDriver(options);
         } else if (browser.equalsIgnoreCase("firefox")) {
-            WebDriverManager.firefoxdriver().setup();
+            DriverBinaryResolver.resolve("firefox");
             FirefoxOptions options = new FirefoxOptions();
+            options.setPageLoadStrategy(pageLoadStrategy);
             if (headless) {
                 options.addArguments("--headless");
                 options.addArguments("--width=1920");
@@ -43,8 +74,9 @@ public class BaseTest {
             }
             driver = new FirefoxDriver(options);
         } else if (browser.equalsIgnoreCase("edge")) {
-            WebDriverManager.edgedriver().setup();
+            DriverBinaryResolver.resolve("edge");
             EdgeOptions options = new EdgeOptions();
+            options.setPageLoadStrategy(pageLoadStrategy);
             if (headless) {
                 options.addArguments("--headless=new");
                 options.addArguments("--window-size=1920,1080");
@@ -52,25 +84,81 @@ public class BaseTest {
             }
             driver = new EdgeDriver(options);
         }
+        if (driver != null) {
+            CommandMetrics.install(driver);
+        }
+        if (pageLoadStrategy != PageLoadStrategy.NORMAL && driver != null) {
+            // get() returns early, so page readiness checks need to see fetches from the start
+            PageReadiness.installRequestTracker(driver);
+        }
+        if (headless && driver != null) {
+            // Skip images, fonts and trackers the tests never look at (see web.block.* settings)
+            NetworkBlocker.install(driver);
+        }
+        return driver;
+    }
 
-        // Set driver in DriverManager for Actions/Validations
-        DriverManager.setDriver(driver);
-        if (!headless) {
-            driver.manage().window().maximize();
+    /**
+     * Gets the shared session pool, creating it on first use.
+     */
+    private static synchronized WebSessionPool getSessionPool() {
+        if (sessionPool == null) {
+            int size = Integer.parseInt(Config.get("web.pool.size", Config.get("thread.count", "1")));
+            int maxReuse = Integer.parseInt(Config.get("web.pool.maxReuse", "20"));
+            sessionPool = new WebSessionPool(BaseTest::createDriver, size, maxReuse);
+        }
+        return sessionPool;
+    }
+
+    /**
+     * Starts opening pooled sessions in the background before the first test needs one.
+     * Called by SessionPreWarmer while TestNG is still building the suite.
+     */
+    public static void prewarm(int count) {
+        if (poolEnabled) {
+            getSessionPool().warmUp(count);
         }
     }
 
     @AfterMethod
     public void tearDown(ITestResult result) {
+        // A test that never used the driver never started a session
+        WebDriver driver = DriverManager.hasDriver() ? getDriver() : null;
         // Capture screenshot on failure
         if (result.getStatus() == ITestResult.FAILURE && driver != null) {
             ReportUtils.captureScreenshot(driver, "Failure Screenshot");
             ReportUtils.attachText("Failed URL", driver.getCurrentUrl());
         }
-        
+
         if (driver != null) {
-            driver.quit();
-            DriverManager.clearDriver();
+            String networkStats = NetworkBlocker.finishTest(driver);
+            if (networkStats != null) {
+                ReportUtils.attachText("Network Blocking", networkStats);
+            }
+            if (poolEnabled) {
+                // Sessions that saw a failure are recycled rather than reused
+                getSessionPool().release(driver, result.isSuccess());
+            } else {
+                driver.quit();
+            }
         }
+        DriverManager.clearDriver();
+    }
+
+    @AfterSuite
+    public void shutDownPool() {
+        synchronized (BaseTest.class) {
+            if (sessionPool != null) {
+                sessionPool.shutdown();
+                sessionPool = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the driver owned by the current test thread, starting it on first use.
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
     }
 }
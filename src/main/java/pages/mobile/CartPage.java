@@ -1,16 +1,27 @@
 package pages.mobile;
 
+import constants.Colors;
+import io.appium.java_client.AppiumBy;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import io.appium.java_client.pagefactory.iOSXCUITFindBy;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
 import utils.DriverManager;
+import utils.ElementCache;
+import utils.ElementDescriptions;
+import utils.PageLocators;
+import utils.Probes;
+import utils.ScreenSnapshot;
 import utils.Validations;
+import utils.WaitEngine;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Page Object for Cart screen.
@@ -88,7 +99,9 @@ public class CartPage {
     private WebElement goShoppingButton;
 
     public CartPage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementCache.apply(this);
+        ElementDescriptions.register(this);
     }
 
     public void tapProceedToCheckout() {
@@ -137,20 +150,26 @@ public class CartPage {
         return Validations.isDisplayed(removeItemButton);
     }
 
+    /**
+     * Checks the cart shows its empty state, answering as soon as the screen settles.
+     */
     public boolean isCartEmpty() {
-        try {
-            return Validations.isDisplayed(noItemsMessage) || Validations.isDisplayed(goShoppingButton);
-        } catch (Exception e) {
-            return false;
-        }
+        return getCartState() > 0;
     }
 
+    /**
+     * Checks the cart lists items, answering as soon as the screen settles.
+     */
     public boolean hasItemsInCart() {
-        try {
-            return Validations.isDisplayed(removeItemButton);
-        } catch (Exception e) {
-            return false;
-        }
+        return getCartState() == 0;
+    }
+
+    /**
+     * Gets which state the cart screen shows: 0 for items, 1 or 2 for the empty-cart markers, -1 for neither.
+     */
+    private int getCartState() {
+        return Probes.whichPresent(Duration.ofSeconds(WaitEngine.getDefaultTimeout()), PageLocators.of(this, "removeItemButton"),
+                PageLocators.of(this, "goShoppingButton"), PageLocators.of(this, "noItemsMessage"));
     }
 
     /**
@@ -233,12 +252,44 @@ public class CartPage {
      * @return true if found
      */
     public boolean isProductInCart(String productName) {
-        for (WebElement label : productLabels) {
-            if (Actions.getText(label).contains(productName)) {
-                return true;
+        return readCart().getProductNames().stream().anyMatch(name -> name.contains(productName));
+    }
+
+    /**
+     * Read the whole cart (names, colors, prices, quantities and totals) from one screen snapshot
+     * @return cart contents as shown once the cart screen has rendered
+     */
+    public CartContents readCart() {
+        ScreenSnapshot snapshot = ScreenSnapshot.captureWhenPresent(
+                PageLocators.of(this, "totalPriceElement"), PageLocators.of(this, "goShoppingButton"));
+        return new CartContents(
+                snapshot.getTexts(PageLocators.of(this, "productLabels")),
+                readColors(snapshot),
+                snapshot.getTexts(PageLocators.of(this, "productPrices")),
+                snapshot.getTexts(PageLocators.of(this, "counterAmount")),
+                snapshot.getText(PageLocators.of(this, "totalPriceElement")),
+                snapshot.getText(PageLocators.of(this, "totalNumberElement")));
+    }
+
+    /**
+     * Get the color circle each product row shows, in screen order
+     */
+    private List<Colors> readColors(ScreenSnapshot snapshot) {
+        Colors[] colors = Colors.values();
+        By[] circles = new By[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            circles[i] = AppiumBy.accessibilityId(colors[i].getAccessibilityId());
+        }
+        List<Colors> rowColors = new ArrayList<>();
+        // A circle a row does not show reads as null
+        for (List<String> row : snapshot.getTextsWithin(PageLocators.of(this, "productRows"), circles)) {
+            Colors shown = null;
+            for (int i = 0; i < colors.length && shown == null; i++) {
+                shown = row.get(i) != null ? colors[i] : null;
             }
+            rowColors.add(shown);
         }
-        return false;
+        return rowColors;
     }
 
     /**
@@ -250,4 +301,73 @@ public class CartPage {
         double actualTotal = getTotalPriceValue();
         return Math.abs(actualTotal - expectedTotal) < 0.01;
     }
+
+    /**
+     * Cart contents read from one snapshot of the cart screen.
+     */
+    public static class CartContents {
+        private final List<String> productNames;
+        private final List<Colors> colors;
+        private final List<String> productPrices;
+        private final List<String> quantities;
+        private final String totalPrice;
+        private final String totalItems;
+
+        CartContents(List<String> productNames, List<Colors> colors, List<String> productPrices, List<String> quantities,
+                     String totalPrice, String totalItems) {
+            this.productNames = productNames;
+            this.colors = colors;
+            this.productPrices = productPrices;
+            this.quantities = quantities;
+            this.totalPrice = totalPrice;
+            this.totalItems = totalItems;
+        }
+
+        public List<String> getProductNames() {
+            return productNames;
+        }
+
+        /**
+         * Get the color of each product row, in screen order; null where a row shows no color
+         */
+        public List<Colors> getColors() {
+            return colors;
+        }
+
+        public List<String> getProductPrices() {
+            return productPrices;
+        }
+
+        /**
+         * Get the quantity of each product row, in screen order
+         */
+        public List<Integer> getQuantities() {
+            return quantities.stream().map(quantity -> Integer.parseInt(quantity.trim())).collect(Collectors.toList());
+        }
+
+        /**
+         * Get the total price as shown (e.g. "$39.98"), or null for an empty cart
+         */
+        public String getTotalPrice() {
+            return totalPrice;
+        }
+
+        public double getTotalPriceValue() {
+            return totalPrice == null ? 0 : Double.parseDouble(totalPrice.replace("$", "").replace(",", ""));
+        }
+
+        public int getTotalItemsCount() {
+            return totalItems == null ? 0 : Integer.parseInt(totalItems.replaceAll("[^0-9]", ""));
+        }
+
+        public boolean isEmpty() {
+            return productNames.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s in %s at %s, quantities %s, total %s (%s)",
+                    productNames, colors, productPrices, quantities, totalPrice, totalItems);
+        }
+    }
 }
@@ -6,7 +6,11 @@ import io.appium.java_client.pagefactory.iOSXCUITFindBy;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
+import utils.Constants;
 import utils.DriverManager;
+import utils.ElementDescriptions;
+import utils.Form;
+import utils.PageLocators;
 import utils.Validations;
 
 import java.time.Duration;
@@ -89,7 +93,8 @@ public class CheckoutPage {
     private WebElement continueShoppingButton;
 
     public CheckoutPage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementDescriptions.register(this);
     }
 
     // ========== ADDRESS SCREEN ACTIONS ==========
@@ -137,6 +142,28 @@ public class CheckoutPage {
         tapToPayment();
     }
 
+    /**
+     * Fill the shipping address in one batch and verify it with one read, for tests that need specific values.
+     * Fields the address leaves null keep what the screen shows.
+     */
+    public void fillAddress(Address address) {
+        Form form = Form.of(this);
+        setIfPresent(form, "fullNameInput", address.getFullName());
+        setIfPresent(form, "addressLine1Input", address.getAddressLine1());
+        setIfPresent(form, "addressLine2Input", address.getAddressLine2());
+        setIfPresent(form, "cityInput", address.getCity());
+        setIfPresent(form, "stateInput", address.getState());
+        setIfPresent(form, "zipCodeInput", address.getZipCode());
+        setIfPresent(form, "countryInput", address.getCountry());
+        form.fill();
+    }
+
+    private static void setIfPresent(Form form, String field, String value) {
+        if (value != null) {
+            form.set(field, value);
+        }
+    }
+
     // ========== PAYMENT SCREEN ACTIONS ==========
     public boolean isPaymentScreenDisplayed() {
         try {
@@ -170,23 +197,73 @@ public class CheckoutPage {
      * Fill payment details with test card and proceed to review
      */
     public void completePaymentWithTestCard() {
-        enterCardHolder("Test User");
-        enterCardNumber("4111111111111111");
-        enterExpirationDate("12/25");
-        enterSecurityCode("123");
+        Form.of(this)
+                .set("cardHolderInput", "Test User")
+                .set("cardNumberInput", "4111111111111111")
+                .set("expirationDateInput", "12/25")
+                .set("securityCodeInput", "123")
+                .fill();
         tapReviewOrder();
     }
 
     // ========== CHECKOUT COMPLETE SCREEN ACTIONS ==========
     public boolean isCheckoutCompleteDisplayed() {
-        try {
-            return Validations.isDisplayed(checkoutCompleteScreen);
-        } catch (Exception e) {
-            return false;
-        }
+        return Validations.isAnyDisplayed(Constants.DEFAULT_TIMEOUT, PageLocators.of(this, "checkoutCompleteScreen"));
     }
 
     public void tapContinueShopping() {
         Actions.click(continueShoppingButton);
     }
+
+    /**
+     * Shipping address for the address screen.
+     */
+    public static class Address {
+        private final String fullName;
+        private final String addressLine1;
+        private final String addressLine2;
+        private final String city;
+        private final String state;
+        private final String zipCode;
+        private final String country;
+
+        public Address(String fullName, String addressLine1, String addressLine2, String city,
+                       String state, String zipCode, String country) {
+            this.fullName = fullName;
+            this.addressLine1 = addressLine1;
+            this.addressLine2 = addressLine2;
+            this.city = city;
+            this.state = state;
+            this.zipCode = zipCode;
+            this.country = country;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public String getAddressLine1() {
+            return addressLine1;
+        }
+
+        public String getAddressLine2() {
+            return addressLine2;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+    }
 }
@@ -7,6 +7,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
 import utils.DriverManager;
+import utils.ElementDescriptions;
+import utils.Gestures;
 import utils.Validations;
 
 import java.time.Duration;
@@ -18,7 +20,8 @@ import java.time.Duration;
 public class HomePage {
 
     public HomePage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementDescriptions.register(this);
     }
 
     @AndroidFindBy(accessibility = "open menu")
@@ -79,7 +82,7 @@ public class HomePage {
     }
 
     public void longPressToResetApp() {
-        Actions.click(longPressResetApp);
+        Gestures.longPress(longPressResetApp);
     }
 
     public boolean isMenuButtonDisplayed() {
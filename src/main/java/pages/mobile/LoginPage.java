@@ -7,7 +7,11 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
 import utils.DriverManager;
+import utils.ElementDescriptions;
+import utils.PageLocators;
+import utils.Probes;
 import utils.Validations;
+import utils.WaitEngine;
 
 import java.time.Duration;
 
@@ -61,7 +65,8 @@ public class LoginPage {
     private WebElement genericErrorMessage;
 
     public LoginPage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementDescriptions.register(this);
     }
 
     public void typeUserName(String userName) {
@@ -120,18 +125,20 @@ public class LoginPage {
     }
 
     public boolean isUsernameErrorDisplayed() {
-        try {
-            return Validations.isDisplayed(usernameErrorMessage);
-        } catch (Exception e) {
-            return false;
-        }
+        return isLoginOutcome("usernameErrorMessage");
     }
 
     public boolean isPasswordErrorDisplayed() {
-        try {
-            return Validations.isDisplayed(passwordErrorMessage);
-        } catch (Exception e) {
-            return false;
-        }
+        return isLoginOutcome("passwordErrorMessage");
+    }
+
+    /**
+     * Checks the login attempt ended with the given error, answering as soon as the screen settles
+     * on an error or on the products screen instead of waiting for an error that never comes.
+     */
+    private boolean isLoginOutcome(String errorField) {
+        return Probes.whichPresent(Duration.ofSeconds(WaitEngine.getDefaultTimeout()), PageLocators.of(this, errorField),
+                PageLocators.of(this, "usernameErrorMessage"), PageLocators.of(this, "passwordErrorMessage"),
+                PageLocators.of(this, "genericErrorMessage"), PageLocators.of(ProductsPage.class, "productsScreen")) == 0;
     }
 }
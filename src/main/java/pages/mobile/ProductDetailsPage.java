@@ -8,6 +8,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
 import utils.DriverManager;
+import utils.ElementCache;
+import utils.ElementDescriptions;
+import utils.Gestures;
 import utils.Validations;
 
 import java.time.Duration;
@@ -84,7 +87,9 @@ public class ProductDetailsPage {
     private WebElement productName;
 
     public ProductDetailsPage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementCache.apply(this);
+        ElementDescriptions.register(this);
     }
 
     public void tapAddToCart() {
@@ -96,9 +101,7 @@ public class ProductDetailsPage {
     }
 
     public void increaseQuantity(int times) {
-        for (int i = 0; i < times; i++) {
-            Actions.click(counterPlusButton);
-        }
+        Gestures.tap(counterPlusButton, times);
     }
 
     public void decreaseQuantity() {
@@ -147,7 +150,7 @@ public class ProductDetailsPage {
     }
 
     public void goBackToProducts() {
-        DriverManager.getDriver().navigate().back();
+        Actions.goBack();
     }
 
     public boolean isProductScreenDisplayed() {
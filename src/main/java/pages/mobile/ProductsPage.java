@@ -4,14 +4,30 @@ import constants.Products;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import io.appium.java_client.pagefactory.iOSXCUITFindBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
 import utils.Actions;
 import utils.DriverManager;
+import utils.ElementDescriptions;
+import utils.Gestures;
+import utils.ListHarvester;
+import utils.PageLocators;
+import utils.ScreenSnapshot;
 import utils.Validations;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Page Object for Products/Catalog screen.
@@ -40,6 +56,15 @@ public class ProductsPage {
     @iOSXCUITFindBy(accessibility = "store item")
     private List<WebElement> storeItems;
 
+    // Name and price of each rendered product
+    @AndroidFindBy(accessibility = "store item text")
+    @iOSXCUITFindBy(accessibility = "store item text")
+    private List<WebElement> storeItemNames;
+
+    @AndroidFindBy(accessibility = "store item price")
+    @iOSXCUITFindBy(accessibility = "store item price")
+    private List<WebElement> storeItemPrices;
+
     @AndroidFindBy(xpath = "(//android.view.ViewGroup[@content-desc='store item'])[1]")
     @iOSXCUITFindBy(xpath = "(//XCUIElementTypeOther[@name='store item'])[1]")
     private WebElement firstProduct;
@@ -73,8 +98,12 @@ public class ProductsPage {
     @iOSXCUITFindBy(accessibility = "priceDesc")
     private WebElement sortPriceHighToLow;
 
+    // Catalog of each session, harvested on first use; the products do not change while the app runs
+    private static final Map<WebDriver, Catalog> catalogs = Collections.synchronizedMap(new WeakHashMap<>());
+
     public ProductsPage() {
-        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver(), Duration.ofSeconds(10)), this);
+        PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getThreadBoundDriver(), Duration.ofSeconds(10)), this);
+        ElementDescriptions.register(this);
     }
 
     public void tapOnSortButton() {
@@ -102,24 +131,59 @@ public class ProductsPage {
     }
 
     /**
-     * Tap on a product by index (1-based)
+     * Tap on a product by its position in the app's default order (1-based, as Products indexes count),
+     * whatever sort the grid shows now, scrolling to it if needed
      */
     public void tapOnProduct(int index) {
-        switch (index) {
-            case 1: tapOnFirstProduct(); break;
-            case 2: tapOnSecondProduct(); break;
-            case 3: tapOnThirdProduct(); break;
-            case 4: tapOnFourthProduct(); break;
-            default: tapOnFirstProduct();
+        Catalog catalog = getCatalog();
+        if (index < 1 || index > catalog.size()) {
+            throw new IllegalArgumentException("No product at position " + index + ", the catalog has " + catalog.size());
         }
+        tapOnProduct(catalog.getEntries().get(index - 1));
     }
 
     /**
-     * Tap on a product using the Products enum
+     * Tap on a product using the Products enum, scrolling to it if needed
      * @param product The product to select from the catalog
      */
     public void tapOnProduct(Products product) {
-        tapOnProduct(product.getIndex());
+        CatalogEntry entry = getCatalog().get(product.getName());
+        if (entry == null) {
+            throw new IllegalArgumentException(product.getName() + " is not in the catalog: " + getCatalog());
+        }
+        tapOnProduct(entry);
+    }
+
+    /**
+     * Taps a product by name. Its catalog position tells which way to scroll when it is not rendered;
+     * under another sort that is only a first guess, and the other way is tried next.
+     */
+    private void tapOnProduct(CatalogEntry entry) {
+        By product = PageLocators.withText(this, "storeItemNames", entry.getName());
+        int lastShown = readScreen().getNames().stream()
+                .map(getCatalog()::get)
+                .filter(Objects::nonNull)
+                .mapToInt(CatalogEntry::getPosition)
+                .max().orElse(0);
+        Gestures.Direction direction = entry.getPosition() > lastShown ? Gestures.Direction.DOWN : Gestures.Direction.UP;
+        if (!ListHarvester.scrollIntoView(product, direction)) {
+            throw new NoSuchElementException(entry.getName() + " could not be scrolled into view");
+        }
+        Actions.click(DriverManager.getDriver().findElement(product));
+    }
+
+    /**
+     * Get every product in the catalog with its price and position, not just the rendered ones.
+     * The grid is harvested by scrolling once per session, in whatever order it shows at that time;
+     * positions are then given in the app's default order (name ascending), so they do not depend on
+     * the sort that was on screen at the first harvest.
+     */
+    public Catalog getCatalog() {
+        return catalogs.computeIfAbsent(DriverManager.getDriver(), driver -> new Catalog(ListHarvester.harvest(
+                PageLocators.of(this, "storeItems"),
+                PageLocators.of(this, "storeItemNames"),
+                List.of(PageLocators.of(this, "storeItemPrices")),
+                Products.values().length)));
     }
 
     public void sortByNameAscending() {
@@ -154,8 +218,11 @@ public class ProductsPage {
         return Validations.isDisplayed(cartBadge);
     }
 
+    /**
+     * Get the number of products in the catalog, including those not rendered yet
+     */
     public int getProductCount() {
-        return storeItems.size();
+        return getCatalog().size();
     }
 
     public boolean hasProducts() {
@@ -167,12 +234,38 @@ public class ProductsPage {
      * @return cart item count as int, or 0 if badge not visible
      */
     public int getCartBadgeCount() {
-        try {
-            String countText = Actions.getText(cartBadgeCount);
-            return Integer.parseInt(countText);
-        } catch (Exception e) {
-            return 0;
+        return readScreen().getCartBadgeCount();
+    }
+
+    /**
+     * Read the rendered products and the cart badge from one screen snapshot
+     * @return products as shown once the products screen has rendered
+     */
+    public VisibleProducts readScreen() {
+        ScreenSnapshot snapshot = ScreenSnapshot.captureWhenPresent(PageLocators.of(this, "productsScreen"));
+        return new VisibleProducts(
+                snapshot.getTexts(PageLocators.of(this, "storeItemNames")),
+                snapshot.getTexts(PageLocators.of(this, "storeItemPrices")),
+                snapshot.getText(PageLocators.of(this, "cartBadgeCount")));
+    }
+
+    /**
+     * Check that the rendered products follow a sort order, comparing them by their catalog names and prices
+     * @param order the order the products should be listed in
+     * @return true if every rendered product is in the catalog and in order
+     */
+    public boolean isSortedBy(SortOrder order) {
+        Catalog catalog = getCatalog();
+        List<CatalogEntry> shown = readScreen().getNames().stream().map(catalog::get).collect(Collectors.toList());
+        if (shown.isEmpty() || shown.contains(null)) {
+            return false;
         }
+        for (int i = 1; i < shown.size(); i++) {
+            if (order.comparator.compare(shown.get(i - 1), shown.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -183,4 +276,155 @@ public class ProductsPage {
     public boolean verifyCartBadgeCount(int expectedCount) {
         return getCartBadgeCount() == expectedCount;
     }
+
+    /**
+     * Sort orders offered by the sort menu.
+     */
+    public enum SortOrder {
+        NAME_ASC(Comparator.comparing(CatalogEntry::getName, String.CASE_INSENSITIVE_ORDER)),
+        NAME_DESC(NAME_ASC.comparator.reversed()),
+        PRICE_ASC(Comparator.comparingDouble(CatalogEntry::getPriceValue)),
+        PRICE_DESC(PRICE_ASC.comparator.reversed());
+
+        private final Comparator<CatalogEntry> comparator;
+
+        SortOrder(Comparator<CatalogEntry> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * Every product of the catalog, harvested from the product grid, in the app's default order.
+     */
+    public static class Catalog {
+        private final List<CatalogEntry> entries = new ArrayList<>();
+        private final Map<String, CatalogEntry> byName = new LinkedHashMap<>();
+
+        Catalog(List<List<String>> rows) {
+            List<List<String>> defaultOrder = new ArrayList<>(rows);
+            defaultOrder.sort(Comparator.comparing(row -> row.get(0), String.CASE_INSENSITIVE_ORDER));
+            for (List<String> row : defaultOrder) {
+                CatalogEntry entry = new CatalogEntry(row.get(0), row.get(1), entries.size() + 1);
+                entries.add(entry);
+                byName.put(entry.getName(), entry);
+            }
+        }
+
+        /**
+         * Get the products in the app's default order (name ascending)
+         */
+        public List<CatalogEntry> getEntries() {
+            return Collections.unmodifiableList(entries);
+        }
+
+        /**
+         * Get a product by name, or null if the catalog has none by that name
+         */
+        public CatalogEntry get(String name) {
+            return byName.get(name);
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public String toString() {
+            return entries.toString();
+        }
+    }
+
+    /**
+     * One product of the catalog.
+     */
+    public static class CatalogEntry {
+        private final String name;
+        private final String price;
+        private final int position;
+
+        CatalogEntry(String name, String price, int position) {
+            this.name = name;
+            this.price = price;
+            this.position = position;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the price as shown (e.g. "$29.99"), or null if it was never rendered
+         */
+        public String getPrice() {
+            return price;
+        }
+
+        /**
+         * Get the price as a number, or 0 if it was never rendered
+         */
+        public double getPriceValue() {
+            try {
+                return Double.parseDouble(price.replaceAll("[^0-9.]", ""));
+            } catch (RuntimeException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * Get the position in the grid under the app's default sort (1-based)
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d. %s %s", position, name, price);
+        }
+    }
+
+    /**
+     * Products screen contents read from one snapshot.
+     */
+    public static class VisibleProducts {
+        private final List<String> names;
+        private final List<String> prices;
+        private final String cartBadgeCount;
+
+        VisibleProducts(List<String> names, List<String> prices, String cartBadgeCount) {
+            this.names = names;
+            this.prices = prices;
+            this.cartBadgeCount = cartBadgeCount;
+        }
+
+        /**
+         * Get the names of the rendered products, in screen order
+         */
+        public List<String> getNames() {
+            return names;
+        }
+
+        /**
+         * Get the prices of the rendered products as shown (e.g. "$29.99"), in screen order
+         */
+        public List<String> getPrices() {
+            return prices;
+        }
+
+        /**
+         * Get the cart badge count, or 0 if the badge shows no number
+         */
+        public int getCartBadgeCount() {
+            try {
+                return Integer.parseInt(cartBadgeCount.trim());
+            } catch (RuntimeException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s at %s, cart badge %s", names, prices, cartBadgeCount);
+        }
+    }
 }
@@ -3,9 +3,12 @@ package pages.web;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import utils.Actions;
 import utils.Constants;
 import utils.DriverManager;
+import utils.ElementDescriptions;
+import utils.PageReadiness;
 import utils.Validations;
 
 /**
@@ -24,11 +27,22 @@ public class GooglePage {
     private WebElement feelingLuckyButton;
 
     public GooglePage() {
-        PageFactory.initElements(DriverManager.getDriver(), this);
+        PageFactory.initElements(DriverManager.getThreadBoundDriver(), this);
+        ElementDescriptions.register(this);
+    }
+
+    /**
+     * The page is usable once the DOM is parsed, the search box is visible and no requests are pending.
+     */
+    public ExpectedCondition<Boolean> isReady() {
+        return PageReadiness.allOf(
+                PageReadiness.documentInteractive(),
+                PageReadiness.anchorVisible(searchBox),
+                PageReadiness.noPendingRequests());
     }
 
     public void openGoogle() {
-        Actions.navigateTo(Constants.GOOGLE_URL);
+        Actions.navigateTo(Constants.GOOGLE_URL, isReady());
     }
 
     public void searchFor(String text) {
@@ -1,16 +1,15 @@
 package utils;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
-
 /**
  * Wrapper class for common UI actions.
  * Provides reusable methods for clicking, typing, scrolling, etc.
@@ -19,7 +18,6 @@ import java.time.Duration;
 public class Actions {
 
     private static final Logger logger = LoggerFactory.getLogger(Actions.class);
-    private static final int DEFAULT_TIMEOUT = 10;
 
     /**
      * Gets the driver from DriverManager.
@@ -35,8 +33,9 @@ public class Actions {
      */
     public static void click(WebElement element) {
         logger.info("Clicking on element: {}", getElementDescription(element));
-        waitForClickable(element, DEFAULT_TIMEOUT);
+        waitForClickable(element, Constants.DEFAULT_TIMEOUT);
         element.click();
+        ElementCache.invalidateReads();
         logger.debug("Click successful");
     }
 
@@ -47,6 +46,7 @@ public class Actions {
         logger.info("Clicking on element with {}s timeout: {}", timeoutSeconds, getElementDescription(element));
         waitForClickable(element, timeoutSeconds);
         element.click();
+        ElementCache.invalidateReads();
         logger.debug("Click successful");
     }
 
@@ -55,9 +55,10 @@ public class Actions {
      */
     public static void doubleClick(WebElement element) {
         logger.info("Double clicking on element: {}", getElementDescription(element));
-        waitForClickable(element, DEFAULT_TIMEOUT);
+        waitForClickable(element, Constants.DEFAULT_TIMEOUT);
         org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(getDriver());
         actions.doubleClick(element).perform();
+        ElementCache.invalidateReads();
         logger.debug("Double click successful");
     }
 
@@ -66,22 +67,28 @@ public class Actions {
      */
     public static void rightClick(WebElement element) {
         logger.info("Right clicking on element: {}", getElementDescription(element));
-        waitForClickable(element, DEFAULT_TIMEOUT);
+        waitForClickable(element, Constants.DEFAULT_TIMEOUT);
         org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(getDriver());
         actions.contextClick(element).perform();
+        ElementCache.invalidateReads();
         logger.debug("Right click successful");
     }
 
     // ==================== TYPE ACTIONS ====================
 
     /**
-     * Types text into an element after clearing it.
+     * Replaces the text of an element.
+     * Uses keyboard-free fast input when input.fast.enabled is set, keystrokes otherwise.
      */
     public static void type(WebElement element, String text) {
         logger.info("Typing '{}' into element: {}", text, getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
-        element.clear();
-        element.sendKeys(text);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
+        if (FastInput.isEnabled()) {
+            FastInput.type(element, text);
+        } else {
+            FastInput.typeKeys(element, text);
+        }
+        ElementCache.invalidateReads();
         logger.debug("Type successful");
     }
 
@@ -90,8 +97,9 @@ public class Actions {
      */
     public static void appendText(WebElement element, String text) {
         logger.info("Appending '{}' to element: {}", text, getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         element.sendKeys(text);
+        ElementCache.invalidateReads();
         logger.debug("Append text successful");
     }
 
@@ -100,8 +108,9 @@ public class Actions {
      */
     public static void clearText(WebElement element) {
         logger.info("Clearing text from element: {}", getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         element.clear();
+        ElementCache.invalidateReads();
         logger.debug("Clear text successful");
     }
 
@@ -110,8 +119,9 @@ public class Actions {
      */
     public static void pressEnter(WebElement element) {
         logger.info("Pressing ENTER on element: {}", getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         element.sendKeys(Keys.ENTER);
+        ElementCache.invalidateReads();
         logger.debug("Press ENTER successful");
     }
 
@@ -120,8 +130,9 @@ public class Actions {
      */
     public static void pressTab(WebElement element) {
         logger.info("Pressing TAB on element: {}", getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         element.sendKeys(Keys.TAB);
+        ElementCache.invalidateReads();
         logger.debug("Press TAB successful");
     }
 
@@ -149,7 +160,7 @@ public class Actions {
      * Gets text from an element.
      */
     public static String getText(WebElement element) {
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         String text = element.getText();
         logger.info("Getting text from element: '{}' -> '{}'", getElementDescription(element), text);
         return text;
@@ -159,7 +170,7 @@ public class Actions {
      * Gets attribute value from an element.
      */
     public static String getAttribute(WebElement element, String attributeName) {
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         String value = element.getAttribute(attributeName);
         logger.info("Getting attribute '{}' from element: '{}' -> '{}'", attributeName, getElementDescription(element), value);
         return value;
@@ -168,12 +179,29 @@ public class Actions {
     // ==================== NAVIGATION ACTIONS ====================
 
     /**
-     * Navigates to a URL.
+     * Navigates to a URL and, with the eager/none page-load strategies, waits until the DOM is parsed.
+     * With the normal strategy get() has already waited for the load event, so there is nothing to poll.
      */
     public static void navigateTo(String url) {
+        navigateTo(url, PageReadiness.getPageLoadStrategy() == PageLoadStrategy.NORMAL
+                ? null : PageReadiness.documentInteractive());
+    }
+
+    /**
+     * Navigates to a URL and waits for the page's readiness predicate.
+     * With the eager/none page-load strategies this returns as soon as the page is usable
+     * rather than when every subresource has finished.
+     * @param readiness the predicate to wait for, or null to return when get() does
+     */
+    public static void navigateTo(String url, ExpectedCondition<Boolean> readiness) {
         logger.info("Navigating to URL: '{}'", url);
+        long start = System.currentTimeMillis();
         getDriver().get(url);
-        logger.debug("Navigation successful");
+        ElementCache.invalidateAll();
+        if (readiness != null) {
+            WaitEngine.until("page ready: " + url, readiness, Constants.PAGE_LOAD_TIMEOUT);
+        }
+        logger.debug("Navigation successful - page ready in {} ms", System.currentTimeMillis() - start);
     }
 
     /**
@@ -182,6 +210,7 @@ public class Actions {
     public static void refreshPage() {
         logger.info("Refreshing page");
         getDriver().navigate().refresh();
+        ElementCache.invalidateAll();
         logger.debug("Page refresh successful");
     }
 
@@ -191,6 +220,7 @@ public class Actions {
     public static void goBack() {
         logger.info("Navigating back");
         getDriver().navigate().back();
+        ElementCache.invalidateAll();
         logger.debug("Navigate back successful");
     }
 
@@ -200,6 +230,7 @@ public class Actions {
     public static void goForward() {
         logger.info("Navigating forward");
         getDriver().navigate().forward();
+        ElementCache.invalidateAll();
         logger.debug("Navigate forward successful");
     }
 
@@ -210,9 +241,10 @@ public class Actions {
      */
     public static void selectByText(WebElement element, String text) {
         logger.info("Selecting '{}' from dropdown: {}", text, getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         Select select = new Select(element);
         select.selectByVisibleText(text);
+        ElementCache.invalidateReads();
         logger.debug("Select by text successful");
     }
 
@@ -221,9 +253,10 @@ public class Actions {
      */
     public static void selectByValue(WebElement element, String value) {
         logger.info("Selecting by value '{}' from dropdown: {}", value, getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         Select select = new Select(element);
         select.selectByValue(value);
+        ElementCache.invalidateReads();
         logger.debug("Select by value successful");
     }
 
@@ -232,9 +265,10 @@ public class Actions {
      */
     public static void selectByIndex(WebElement element, int index) {
         logger.info("Selecting by index '{}' from dropdown: {}", index, getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         Select select = new Select(element);
         select.selectByIndex(index);
+        ElementCache.invalidateReads();
         logger.debug("Select by index successful");
     }
 
@@ -245,9 +279,10 @@ public class Actions {
      */
     public static void hover(WebElement element) {
         logger.info("Hovering over element: {}", getElementDescription(element));
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
         org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(getDriver());
         actions.moveToElement(element).perform();
+        ElementCache.invalidateReads();
         logger.debug("Hover successful");
     }
 
@@ -258,8 +293,7 @@ public class Actions {
      */
     public static void scrollToElement(WebElement element) {
         logger.info("Scrolling to element: {}", getElementDescription(element));
-        org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(getDriver());
-        actions.scrollToElement(element).perform();
+        Gestures.scrollTo(element);
         logger.debug("Scroll successful");
     }
 
@@ -270,8 +304,7 @@ public class Actions {
      */
     public static void waitForVisible(WebElement element, int timeoutSeconds) {
         logger.debug("Waiting for element to be visible ({}s): {}", timeoutSeconds, getElementDescription(element));
-        WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.visibilityOf(element));
+        WaitEngine.until("visible: " + ElementDescriptions.describe(element), ExpectedConditions.visibilityOf(element), timeoutSeconds);
         logger.debug("Element is visible");
     }
 
@@ -280,8 +313,7 @@ public class Actions {
      */
     public static void waitForClickable(WebElement element, int timeoutSeconds) {
         logger.debug("Waiting for element to be clickable ({}s): {}", timeoutSeconds, getElementDescription(element));
-        WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        WaitEngine.until("clickable: " + ElementDescriptions.describe(element), ExpectedConditions.elementToBeClickable(element), timeoutSeconds);
         logger.debug("Element is clickable");
     }
 
@@ -290,8 +322,7 @@ public class Actions {
      */
     public static void waitForInvisible(WebElement element, int timeoutSeconds) {
         logger.debug("Waiting for element to disappear ({}s): {}", timeoutSeconds, getElementDescription(element));
-        WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(timeoutSeconds));
-        wait.until(ExpectedConditions.invisibilityOf(element));
+        WaitEngine.until("invisible: " + ElementDescriptions.describe(element), ExpectedConditions.invisibilityOf(element), timeoutSeconds);
         logger.debug("Element is invisible");
     }
 
@@ -299,22 +330,32 @@ public class Actions {
      * Waits for element to be visible with default timeout.
      */
     public static void waitForVisible(WebElement element) {
-        waitForVisible(element, DEFAULT_TIMEOUT);
+        waitForVisible(element, Constants.DEFAULT_TIMEOUT);
     }
 
     /**
      * Waits for element to be clickable with default timeout.
      */
     public static void waitForClickable(WebElement element) {
-        waitForClickable(element, DEFAULT_TIMEOUT);
+        waitForClickable(element, Constants.DEFAULT_TIMEOUT);
     }
 
     // ==================== HELPER METHODS ====================
 
     /**
      * Gets a description of the element for logging.
+     * Built from page-object metadata without remote calls; the live tag/id/name/class
+     * lookup is only added when debug logging is enabled.
      */
     private static String getElementDescription(WebElement element) {
+        String description = ElementDescriptions.describe(element);
+        return logger.isDebugEnabled() ? description + " " + getLiveDescription(element) : description;
+    }
+
+    /**
+     * Describes the element from its live attributes (four remote calls).
+     */
+    private static String getLiveDescription(WebElement element) {
         try {
             String tagName = element.getTagName();
             String id = element.getAttribute("id");
@@ -8,45 +8,64 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Simple utility class for API testing using RestAssured.
+ * Settings belong to the test that sets them: each test thread (and any thread it starts) has its own,
+ * so parallel tests never send each other's token or headers. Set them in @BeforeMethod and call
+ * clearSettings() in @AfterMethod.
  */
 public class ApiUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiUtils.class);
-    private static String baseUrl = "";
-    private static String authToken = null;
-    private static Map<String, String> customHeaders = new HashMap<>();
+    private static final InheritableThreadLocal<Settings> settings = new InheritableThreadLocal<>() {
+        @Override
+        protected Settings initialValue() {
+            return new Settings();
+        }
+
+        @Override
+        protected Settings childValue(Settings parent) {
+            // A thread started by the test gets a copy, so its changes stay its own
+            return parent.copy();
+        }
+    };
 
     // ==================== CONFIGURATION ====================
 
     /**
-     * Sets the base URL for all API requests.
+     * Sets the base URL for the current test's API requests.
      */
     public static void setBaseUrl(String url) {
-        baseUrl = url;
+        settings.get().baseUrl = url;
         logger.info("API Base URL set to: {}", url);
     }
 
     /**
-     * Sets the Bearer authentication token.
+     * Sets the Bearer authentication token for the current test.
      */
     public static void setAuthToken(String token) {
-        authToken = token;
+        settings.get().authToken = token;
         logger.info("Auth token set");
     }
 
     /**
-     * Adds a custom header to all requests.
+     * Adds a custom header to the current test's requests.
      */
     public static void setHeader(String name, String value) {
-        customHeaders.put(name, value);
+        settings.get().headers.put(name, value);
         logger.info("Header set: {}", name);
     }
 
+    /**
+     * Forgets the current test's base URL, token and headers, so the next test on this thread starts clean.
+     */
+    public static void clearSettings() {
+        settings.remove();
+    }
+
     // ==================== HTTP METHODS ====================
 
     /**
@@ -117,18 +136,19 @@ public class ApiUtils {
     // ==================== PRIVATE HELPERS ====================
 
     private static RequestSpecification getRequestSpec() {
+        Settings current = settings.get();
         RequestSpecification spec = RestAssured.given()
                 .filter(new AllureRestAssured())
                 .contentType(ContentType.JSON)
                 .accept(ContentType.JSON);
         
         // Add Bearer token if set
-        if (authToken != null) {
-            spec.header("Authorization", "Bearer " + authToken);
+        if (current.authToken != null) {
+            spec.header("Authorization", "Bearer " + current.authToken);
         }
         
         // Add custom headers
-        for (Map.Entry<String, String> header : customHeaders.entrySet()) {
+        for (Map.Entry<String, String> header : current.headers.entrySet()) {
             spec.header(header.getKey(), header.getValue());
         }
         
@@ -136,6 +156,7 @@ public class ApiUtils {
     }
 
     private static String getFullUrl(String endpoint) {
+        String baseUrl = settings.get().baseUrl;
         if (!baseUrl.isEmpty() && !endpoint.startsWith("http")) {
             String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
             String path = endpoint.startsWith("/") ? endpoint : "/" + endpoint;
@@ -143,4 +164,18 @@ public class ApiUtils {
         }
         return endpoint;
     }
+
+    private static final class Settings {
+        private String baseUrl = "";
+        private String authToken;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        Settings copy() {
+            Settings copy = new Settings();
+            copy.baseUrl = baseUrl;
+            copy.authToken = authToken;
+            copy.headers.putAll(headers);
+            return copy;
+        }
+    }
 }
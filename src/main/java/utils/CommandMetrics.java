@@ -0,0 +1,259 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the WebDriver commands each test sends and how long they take.
+ * Every driver gets a metering command executor, so commands are counted by W3C command name
+ * (findElement, clickElement, getPageSource...) and attributed to the test and ReportUtils.step
+ * running on the calling thread. TestListener attaches the per-test table to Allure and the run
+ * totals are written as JSON to metrics.commands.file.
+ */
+public class CommandMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandMetrics.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final boolean enabled = Boolean.parseBoolean(Config.get("metrics.commands.enabled", "true"));
+    private static final String NO_STEP = "(no step)";
+
+    private static final ThreadLocal<TestCommands> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<String> currentStep = new ThreadLocal<>();
+    private static final Map<String, Latencies> runLatencies = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Object>> testSummaries = new ConcurrentHashMap<>();
+
+    // ==================== INSTALLATION ====================
+
+    /**
+     * Meters every command the driver sends. Safe to call more than once.
+     */
+    public static void install(WebDriver driver) {
+        if (!enabled || !(driver instanceof RemoteWebDriver)) {
+            return;
+        }
+        RemoteWebDriver remote = (RemoteWebDriver) driver;
+        CommandExecutor executor = remote.getCommandExecutor();
+        if (executor instanceof MeteredExecutor) {
+            return;
+        }
+        try {
+            // RemoteWebDriver only exposes the setter to subclasses; drivers keep their own class
+            Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+            setter.setAccessible(true);
+            setter.invoke(remote, new MeteredExecutor(executor));
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Command metrics unavailable for {}: {}", driver.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private static final class MeteredExecutor implements CommandExecutor {
+        private final CommandExecutor delegate;
+
+        MeteredExecutor(CommandExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.execute(command);
+            } finally {
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                record(command.getName(), millis);
+                LocatorProfiler.record(command, millis);
+            }
+        }
+    }
+
+    private static void record(String command, long millis) {
+        runLatencies.computeIfAbsent(command, name -> new Latencies()).add(millis);
+        TestCommands test = currentTest.get();
+        if (test != null) {
+            String step = currentStep.get();
+            test.record(command, step == null ? NO_STEP : step, millis);
+        }
+    }
+
+    // ==================== ATTRIBUTION ====================
+
+    /**
+     * Starts attributing commands on this thread to a test.
+     */
+    public static void startTest(String testName) {
+        currentTest.set(new TestCommands(testName));
+        currentStep.remove();
+    }
+
+    /**
+     * Stops attributing commands to the current test.
+     * @return the test's command table for the report, or null if no test was started
+     */
+    public static String finishTest() {
+        TestCommands test = currentTest.get();
+        currentTest.remove();
+        currentStep.remove();
+        if (test == null) {
+            return null;
+        }
+        testSummaries.put(test.name, test.toSummary());
+        return test.toReport();
+    }
+
+    /**
+     * Attributes the following commands to a step.
+     * @return the enclosing step, to pass back to exitStep
+     */
+    public static String enterStep(String step) {
+        String previous = currentStep.get();
+        currentStep.set(step);
+        return previous;
+    }
+
+    /**
+     * Returns to the enclosing step after a step finishes.
+     */
+    public static void exitStep(String previous) {
+        if (previous == null) {
+            currentStep.remove();
+        } else {
+            currentStep.set(previous);
+        }
+    }
+
+    // ==================== RUN SUMMARY ====================
+
+    /**
+     * Writes the run totals and per-test counts as JSON to metrics.commands.file.
+     */
+    public static void writeSummary() {
+        if (!enabled || runLatencies.isEmpty()) {
+            return;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commands", runLatencies.values().stream().mapToInt(Latencies::count).sum());
+        summary.put("byCommand", summarize(runLatencies));
+        summary.put("tests", new TreeMap<>(testSummaries));
+        Path file = Paths.get(Config.get("metrics.commands.file", "target/command-metrics.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            mapper.writeValue(file.toFile(), summary);
+            logger.info("Command metrics written to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to write command metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> summarize(Map<String, Latencies> latencies) {
+        Map<String, Object> byCommand = new TreeMap<>();
+        latencies.forEach((command, values) -> byCommand.put(command, values.toSummary()));
+        return byCommand;
+    }
+
+    // ==================== DATA ====================
+
+    /**
+     * Commands of one test, by command and by step.
+     */
+    private static final class TestCommands {
+        private final String name;
+        private final long start = System.currentTimeMillis();
+        private final Map<String, Latencies> byCommand = new TreeMap<>();
+        private final Map<String, Integer> byStep = new LinkedHashMap<>();
+
+        TestCommands(String name) {
+            this.name = name;
+        }
+
+        void record(String command, String step, long millis) {
+            byCommand.computeIfAbsent(command, c -> new Latencies()).add(millis);
+            byStep.merge(step, 1, Integer::sum);
+        }
+
+        Map<String, Object> toSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("commands", byCommand.values().stream().mapToInt(Latencies::count).sum());
+            summary.put("durationMs", System.currentTimeMillis() - start);
+            summary.put("byCommand", summarize(byCommand));
+            summary.put("bySteps", byStep);
+            return summary;
+        }
+
+        String toReport() {
+            StringBuilder report = new StringBuilder();
+            int total = byCommand.values().stream().mapToInt(Latencies::count).sum();
+            report.append(String.format("%d commands in %d ms%n%n", total, System.currentTimeMillis() - start));
+            report.append(String.format("%-28s %6s %7s %7s %7s %7s%n", "Command", "Count", "p50", "p95", "p99", "max"));
+            byCommand.forEach((command, latencies) -> {
+                long[] sorted = latencies.sorted();
+                report.append(String.format("%-28s %6d %5dms %5dms %5dms %5dms%n", command, sorted.length,
+                        percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[sorted.length - 1]));
+            });
+            report.append(String.format("%nBy step:%n"));
+            byStep.forEach((step, count) -> report.append(String.format("%6d  %s%n", count, step)));
+            return report.toString();
+        }
+    }
+
+    /**
+     * Latencies of one command type, in milliseconds.
+     */
+    private static final class Latencies {
+        private final List<Long> values = new ArrayList<>();
+
+        synchronized void add(long millis) {
+            values.add(millis);
+        }
+
+        synchronized int count() {
+            return values.size();
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        Map<String, Long> toSummary() {
+            long[] sorted = sorted();
+            Map<String, Long> summary = new LinkedHashMap<>();
+            summary.put("count", (long) sorted.length);
+            summary.put("p50", percentile(sorted, 50));
+            summary.put("p95", percentile(sorted, 95));
+            summary.put("p99", percentile(sorted, 99));
+            summary.put("max", sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+            return summary;
+        }
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,69 @@
+package utils;
+
+/**
+ * A mobile device (emulator, simulator or real device) available to the test run.
+ * Each device has its own Appium endpoint and driver ports so several can run in parallel.
+ */
+public final class Device {
+
+    private final String udid;
+    private final String deviceName;
+    private final String platformVersion;
+    private final String appiumUrl;
+    private final int systemPort;
+    private final int chromedriverPort;
+    private final int wdaLocalPort;
+
+    public Device(String udid, String deviceName, String platformVersion, String appiumUrl,
+                  int systemPort, int chromedriverPort, int wdaLocalPort) {
+        this.udid = udid;
+        this.deviceName = deviceName;
+        this.platformVersion = platformVersion;
+        this.appiumUrl = appiumUrl;
+        this.systemPort = systemPort;
+        this.chromedriverPort = chromedriverPort;
+        this.wdaLocalPort = wdaLocalPort;
+    }
+
+    public String getUdid() {
+        return udid;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public String getPlatformVersion() {
+        return platformVersion;
+    }
+
+    public String getAppiumUrl() {
+        return appiumUrl;
+    }
+
+    /**
+     * UiAutomator2 server port (Android). 0 lets Appium pick one.
+     */
+    public int getSystemPort() {
+        return systemPort;
+    }
+
+    /**
+     * Chromedriver port for webview contexts (Android). 0 lets Appium pick one.
+     */
+    public int getChromedriverPort() {
+        return chromedriverPort;
+    }
+
+    /**
+     * WebDriverAgent port (iOS). 0 lets Appium pick one.
+     */
+    public int getWdaLocalPort() {
+        return wdaLocalPort;
+    }
+
+    @Override
+    public String toString() {
+        return deviceName + " (" + udid + " @ " + appiumUrl + ")";
+    }
+}
@@ -0,0 +1,99 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Pool of mobile devices that test workers lease for their sessions.
+ * Devices are listed in application.properties:
+ * <pre>
+ * mobile.device.1.udid=emulator-5554
+ * mobile.device.1.appiumUrl=http://127.0.0.1:4723/
+ * mobile.device.1.systemPort=8200
+ * mobile.device.1.chromedriverPort=9515
+ * </pre>
+ * When no device is listed, the single default device for the platform is used.
+ */
+public class DevicePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DevicePool.class);
+
+    private final List<Device> devices;
+    private final BlockingQueue<Device> available;
+
+    public DevicePool(List<Device> devices) {
+        this.devices = Collections.unmodifiableList(new ArrayList<>(devices));
+        this.available = new LinkedBlockingQueue<>(devices);
+        logger.info("Device pool created with {} device(s): {}", devices.size(), devices);
+    }
+
+    /**
+     * Creates a pool from the devices listed in configuration.
+     * @param platformName Android or iOS, used for the default device
+     */
+    public static DevicePool fromConfig(String platformName) {
+        List<Device> devices = new ArrayList<>();
+        for (int i = 1; Config.get("mobile.device." + i + ".udid", null) != null; i++) {
+            String prefix = "mobile.device." + i + ".";
+            String udid = Config.get(prefix + "udid", null);
+            devices.add(new Device(
+                    udid,
+                    Config.get(prefix + "deviceName", udid),
+                    Config.get(prefix + "platformVersion", null),
+                    Config.get(prefix + "appiumUrl", Constants.APPIUM_SERVER_URL),
+                    Integer.parseInt(Config.get(prefix + "systemPort", "0")),
+                    Integer.parseInt(Config.get(prefix + "chromedriverPort", "0")),
+                    Integer.parseInt(Config.get(prefix + "wdaLocalPort", "0"))));
+        }
+
+        if (devices.isEmpty()) {
+            boolean ios = Constants.PLATFORM_IOS.equalsIgnoreCase(platformName);
+            String name = ios ? Constants.IOS_DEVICE_NAME : Constants.ANDROID_DEVICE_NAME;
+            devices.add(new Device(null, name, ios ? Constants.IOS_PLATFORM_VERSION : null,
+                    Constants.APPIUM_SERVER_URL, 0, 0, 0));
+        }
+        return new DevicePool(devices);
+    }
+
+    /**
+     * Leases a free device without waiting.
+     * @return a device, or null if every device is in use
+     */
+    public Device tryLease() {
+        Device device = available.poll();
+        if (device != null) {
+            logger.info("Leased device {}", device);
+        }
+        return device;
+    }
+
+    /**
+     * Returns a device to the pool.
+     */
+    public void release(Device device) {
+        if (device != null && !available.contains(device)) {
+            available.offer(device);
+            logger.info("Released device {}", device);
+        }
+    }
+
+    /**
+     * Gets the number of devices in the pool.
+     */
+    public int size() {
+        return devices.size();
+    }
+
+    /**
+     * Gets all devices in the pool.
+     */
+    public List<Device> getDevices() {
+        return devices;
+    }
+}
@@ -0,0 +1,205 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM instead of on every test.
+ * Resolved binaries are pinned in a local cache with a checksum manifest, so later runs
+ * on the same machine skip WebDriverManager's lookups. A pin is only reused while it matches
+ * the configured driver version and the installed browser's major version, so a browser
+ * auto-update re-resolves the driver. In offline mode the network is never touched and the
+ * pinned cache is used as is (for air-gapped runners).
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final String MANIFEST_FILE = "drivers.manifest";
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+    private static final Path cacheDir = Paths.get(Config.get("driver.cache.path",
+            System.getProperty("user.home") + "/.cache/automation-drivers"));
+    private static final boolean offline = Boolean.parseBoolean(Config.get("driver.offline", "false"));
+
+    /**
+     * Resolves the driver binary for a browser and exports its system property.
+     * Only the first call per browser does any work; later calls are a map lookup.
+     * @param browser chrome, firefox or edge
+     * @return absolute path of the driver binary
+     */
+    public static String resolve(String browser) {
+        String key = browser.toLowerCase();
+        String path = resolved.computeIfAbsent(key, DriverBinaryResolver::resolveOnce);
+        System.setProperty(getDriverProperty(key), path);
+        return path;
+    }
+
+    private static synchronized String resolveOnce(String browser) {
+        long start = System.currentTimeMillis();
+        Properties manifest = loadManifest();
+
+        String version = Config.get("driver." + browser + ".version", null);
+        // Offline runs cannot fetch another driver, so any verified pin is used
+        String browserMajor = offline ? null : detectBrowserMajor(browser);
+        String pinned = getPinnedBinary(manifest, browser);
+        if (pinned != null && !offline && !isPinCurrent(manifest, browser, version, browserMajor)) {
+            pinned = null;
+        }
+        if (pinned != null) {
+            logger.info("Using pinned {} driver {} ({} ms)", browser, pinned, System.currentTimeMillis() - start);
+            return pinned;
+        }
+        if (offline) {
+            throw new IllegalStateException("No verified " + browser + " driver in " + cacheDir.resolve(MANIFEST_FILE)
+                    + " and driver.offline=true. Run once online or copy a pinned cache to this machine.");
+        }
+
+        WebDriverManager manager = getManager(browser).cachePath(cacheDir.toString());
+        if (version != null) {
+            manager.driverVersion(version);
+        }
+        manager.setup();
+
+        String path = manager.getDownloadedDriverPath();
+        pin(manifest, browser, path, manager.getDownloadedDriverVersion(), browserMajor);
+        logger.info("Resolved {} driver {} ({} ms)", browser, path, System.currentTimeMillis() - start);
+        return path;
+    }
+
+    // ==================== MANIFEST ====================
+
+    /**
+     * Gets the pinned binary for a browser if it still exists and its checksum matches.
+     */
+    private static String getPinnedBinary(Properties manifest, String browser) {
+        String path = manifest.getProperty(browser + ".path");
+        String checksum = manifest.getProperty(browser + ".sha256");
+        if (path == null || checksum == null || !Files.isRegularFile(Paths.get(path))) {
+            return null;
+        }
+        if (!checksum.equals(sha256(Paths.get(path)))) {
+            logger.warn("Checksum mismatch for pinned {} driver {} - ignoring it", browser, path);
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * Checks a pin against the configured driver version and the browser major version it was resolved for.
+     * @param browserMajor the installed browser's major version, or null if it could not be detected
+     */
+    private static boolean isPinCurrent(Properties manifest, String browser, String version, String browserMajor) {
+        String pinnedVersion = manifest.getProperty(browser + ".version");
+        if (version != null && !version.equals(pinnedVersion)) {
+            logger.info("Pinned {} driver {} is not the configured {} - re-resolving", browser, pinnedVersion, version);
+            return false;
+        }
+        String pinnedBrowserMajor = manifest.getProperty(browser + ".browserMajor");
+        if (version == null && browserMajor != null && !browserMajor.equals(pinnedBrowserMajor)) {
+            logger.info("Pinned {} driver {} was resolved for browser {}, installed is {} - re-resolving",
+                    browser, pinnedVersion, pinnedBrowserMajor, browserMajor);
+            return false;
+        }
+        return true;
+    }
+
+    private static void pin(Properties manifest, String browser, String path, String version, String browserMajor) {
+        manifest.setProperty(browser + ".path", path);
+        manifest.setProperty(browser + ".version", String.valueOf(version));
+        if (browserMajor != null) {
+            manifest.setProperty(browser + ".browserMajor", browserMajor);
+        } else {
+            manifest.remove(browser + ".browserMajor");
+        }
+        manifest.setProperty(browser + ".sha256", sha256(Paths.get(path)));
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temp file and move it so concurrent runs never read a half-written manifest
+            Path temp = Files.createTempFile(cacheDir, MANIFEST_FILE, ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                manifest.store(output, "Pinned browser driver binaries");
+            }
+            Files.move(temp, cacheDir.resolve(MANIFEST_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write driver manifest: {}", e.getMessage());
+        }
+    }
+
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        Path file = cacheDir.resolve(MANIFEST_FILE);
+        if (Files.isRegularFile(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                manifest.load(input);
+            } catch (IOException e) {
+                logger.warn("Failed to read driver manifest: {}", e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Detects the installed browser's major version with WebDriverManager's shell commands.
+     * @return the major version (e.g. "120"), or null if the browser is not found
+     */
+    private static String detectBrowserMajor(String browser) {
+        io.github.bonigarcia.wdm.config.Config wdmConfig = new io.github.bonigarcia.wdm.config.Config();
+        try (HttpClient httpClient = new HttpClient(wdmConfig)) {
+            return new VersionDetector(wdmConfig, httpClient).getBrowserVersionFromTheShell(browser)
+                    .map(VersionDetector::getMajorVersion)
+                    .orElse(null);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not detect the {} version: {}", browser, e.getMessage());
+            return null;
+        }
+    }
+
+    private static WebDriverManager getManager(String browser) {
+        switch (browser) {
+            case "firefox": return WebDriverManager.firefoxdriver();
+            case "edge": return WebDriverManager.edgedriver();
+            default: return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String getDriverProperty(String browser) {
+        switch (browser) {
+            case "firefox": return "webdriver.gecko.driver";
+            case "edge": return "webdriver.edge.driver";
+            default: return "webdriver.chrome.driver";
+        }
+    }
+
+    private static String sha256(Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to checksum " + file, e);
+        }
+    }
+}
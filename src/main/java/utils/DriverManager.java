@@ -4,48 +4,153 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Centralized driver management.
- * Holds the WebDriver instance so it can be accessed from anywhere
- * without passing it as a parameter.
+ * Holds one WebDriver per test thread so it can be accessed from anywhere
+ * without passing it as a parameter, and so suites can run in parallel.
+ * Drivers are created lazily: BaseTest only binds a factory, and the session is
+ * started the first time the test asks for it, so tests that never touch the UI never open one.
  */
 public class DriverManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
-    private static WebDriver driver;
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<Supplier<? extends WebDriver>> driverFactory = new ThreadLocal<>();
+    private static final Set<WebDriver> activeDrivers = ConcurrentHashMap.newKeySet();
 
     /**
-     * Sets the WebDriver instance.
+     * Sets the WebDriver instance for the current thread.
      * Called by BaseTest during setup.
      */
     public static void setDriver(WebDriver webDriver) {
-        driver = webDriver;
-        logger.debug("Driver set in DriverManager");
+        driver.set(webDriver);
+        if (webDriver != null) {
+            activeDrivers.add(webDriver);
+        }
+        logger.debug("Driver set in DriverManager for thread: {}", Thread.currentThread().getName());
+    }
+
+    /**
+     * Binds the factory that creates the current thread's driver on first use.
+     * Called by BaseTest during setup instead of starting a session up front.
+     */
+    public static void setDriverFactory(Supplier<? extends WebDriver> factory) {
+        driverFactory.set(factory);
     }
 
     /**
-     * Gets the current WebDriver instance.
+     * Gets the WebDriver instance of the current thread, creating it on first use.
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
-            logger.warn("Driver is null - make sure BaseTest.setUp() was called");
+        WebDriver current = driver.get();
+        if (current == null) {
+            Supplier<? extends WebDriver> factory = driverFactory.get();
+            if (factory == null) {
+                logger.warn("Driver is null - make sure BaseTest.setUp() was called");
+                return null;
+            }
+            // Remove first so a failing factory is not retried by every later call
+            driverFactory.remove();
+            long start = System.currentTimeMillis();
+            current = factory.get();
+            setDriver(current);
+            logger.debug("Driver created on first use in {} ms", System.currentTimeMillis() - start);
         }
-        return driver;
+        return current;
     }
 
     /**
-     * Clears the driver reference.
+     * Clears the driver reference of the current thread.
      * Called by BaseTest during teardown.
      */
     public static void clearDriver() {
-        driver = null;
-        logger.debug("Driver cleared from DriverManager");
+        WebDriver current = driver.get();
+        if (current != null) {
+            activeDrivers.remove(current);
+        }
+        driver.remove();
+        driverFactory.remove();
+        logger.debug("Driver cleared from DriverManager for thread: {}", Thread.currentThread().getName());
     }
 
     /**
-     * Checks if driver is available.
+     * Checks if a driver has been started on the current thread.
+     * Never creates one, so listeners can use it without opening a session.
      */
     public static boolean hasDriver() {
-        return driver != null;
+        return driver.get() != null;
+    }
+
+    /**
+     * Quits every driver still registered by any thread.
+     * Called once at the end of a suite whose sessions outlive single tests.
+     */
+    public static void quitAll() {
+        List<WebDriver> drivers = new ArrayList<>(activeDrivers);
+        logger.info("Quitting {} active driver(s)", drivers.size());
+        for (WebDriver webDriver : drivers) {
+            try {
+                webDriver.quit();
+            } catch (Exception e) {
+                logger.warn("Failed to quit driver: {}", e.getMessage());
+            }
+            activeDrivers.remove(webDriver);
+        }
+        driver.remove();
+    }
+
+    /**
+     * Gets a WebDriver view that forwards every call to the driver of the calling thread.
+     * Page objects bind to this view, so a page stored in a test class field and shared
+     * by parallel test methods still talks to each thread's own session.
+     */
+    public static WebDriver getThreadBoundDriver() {
+        WebDriver current = getDriver();
+        if (current == null) {
+            return null;
+        }
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        collectInterfaces(current.getClass(), interfaces);
+        return (WebDriver) Proxy.newProxyInstance(
+                DriverManager.class.getClassLoader(),
+                interfaces.toArray(new Class<?>[0]),
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals": return proxy == args[0];
+                            case "hashCode": return System.identityHashCode(proxy);
+                            default: return "ThreadBoundDriver(" + driver.get() + ")";
+                        }
+                    }
+                    WebDriver target = driver.get();
+                    if (target == null) {
+                        throw new IllegalStateException("No driver registered for thread: " + Thread.currentThread().getName());
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> iface : current.getInterfaces()) {
+                if (Modifier.isPublic(iface.getModifiers()) && interfaces.add(iface)) {
+                    collectInterfaces(iface, interfaces);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,301 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in cache for page-object elements (elements.cache.enabled).
+ * A page calls ElementCache.apply(this) after PageFactory.initElements; its element fields then
+ * keep the located handle instead of running findElement on every call, and remember read-only
+ * results (text, displayed, enabled, attributes) until something may have changed them.
+ * Read results and element lists are dropped after any click/type through Actions, a mutating call
+ * on a cached element and before every wait poll. Handles are dropped on navigation and re-located
+ * once when the server reports them stale.
+ * Handles and reads are kept per thread and session, so a page object shared by parallel tests never
+ * hands one test an element or text from another test's session.
+ */
+public class ElementCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+
+    private static final Set<String> READS = Set.of("getText", "isDisplayed", "isEnabled", "isSelected",
+            "getAttribute", "getDomAttribute", "getDomProperty", "getTagName", "getCssValue", "getAccessibleName", "getAriaRole");
+    private static final Set<String> MUTATIONS = Set.of("click", "sendKeys", "clear", "submit");
+
+    private static final ThreadLocal<Generations> generations = ThreadLocal.withInitial(Generations::new);
+    private static final AtomicLong handleHits = new AtomicLong();
+    private static final AtomicLong handleMisses = new AtomicLong();
+    private static final AtomicLong readHits = new AtomicLong();
+    private static final AtomicLong readMisses = new AtomicLong();
+    private static final AtomicLong staleRetries = new AtomicLong();
+
+    /**
+     * Replaces the WebElement and List&lt;WebElement&gt; fields of a page object with cached ones.
+     * Does nothing unless elements.cache.enabled=true.
+     */
+    @SuppressWarnings("unchecked")
+    public static void apply(Object page) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (Class<?> type = page.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                try {
+                    if (WebElement.class.equals(field.getType())) {
+                        field.setAccessible(true);
+                        By locator = PageLocators.of(type, field.getName());
+                        field.set(page, cachedElement(locator, page.getClass().getSimpleName() + "." + field.getName()));
+                    } else if (List.class.equals(field.getType())) {
+                        field.setAccessible(true);
+                        List<WebElement> located = (List<WebElement>) field.get(page);
+                        if (located != null) {
+                            field.set(page, cachedList(located, page.getClass().getSimpleName() + "." + field.getName()));
+                        }
+                    }
+                } catch (IllegalAccessException | RuntimeException e) {
+                    logger.debug("Not caching {}.{}: {}", type.getSimpleName(), field.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    // ==================== INVALIDATION ====================
+
+    /**
+     * Drops remembered read results and element lists, e.g. after a click or while waiting.
+     */
+    public static void invalidateReads() {
+        generations.get().reads++;
+    }
+
+    /**
+     * Drops everything, including located handles, e.g. after navigation.
+     */
+    public static void invalidateAll() {
+        Generations current = generations.get();
+        current.reads++;
+        current.handles++;
+    }
+
+    /**
+     * Gets the cache hit/miss counters.
+     */
+    public static String getReport() {
+        return String.format("Element cache (%s): handles hit=%d/miss=%d, reads hit=%d/miss=%d, stale retries=%d",
+                isEnabled() ? "enabled" : "disabled", handleHits.get(), handleMisses.get(),
+                readHits.get(), readMisses.get(), staleRetries.get());
+    }
+
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(Config.get("elements.cache.enabled", "false"));
+    }
+
+    private static final class Generations {
+        private long reads;
+        private long handles;
+    }
+
+    // ==================== CACHED ELEMENTS ====================
+
+    private static WebElement cachedElement(By locator, String name) {
+        return (WebElement) Proxy.newProxyInstance(ElementCache.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                new CachedElement(locator, name));
+    }
+
+    /**
+     * What one thread located and read through a cached element, on the session it was using then.
+     */
+    private static final class ElementState {
+        private final Map<String, Object> reads = new HashMap<>();
+        private WebDriver driver;
+        private WebElement handle;
+        private long handleGeneration;
+        private long readGeneration;
+    }
+
+    private static final class CachedElement implements InvocationHandler {
+        private final By locator;
+        private final String name;
+        private final ThreadLocal<ElementState> states = ThreadLocal.withInitial(ElementState::new);
+
+        CachedElement(By locator, String name) {
+            this.locator = locator;
+            this.name = name;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals": return proxy == args[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    default: return "Cached element for: " + name + " (" + locator + ")";
+                }
+            }
+            if (method.getName().equals("getWrappedElement")) {
+                return resolve();
+            }
+            if (!READS.contains(method.getName())) {
+                Object result = invokeOnHandle(method, args);
+                if (MUTATIONS.contains(method.getName())) {
+                    invalidateReads();
+                }
+                return result;
+            }
+
+            String key = method.getName() + (args == null ? "" : Arrays.toString(args));
+            ElementState state = currentState();
+            if (state.readGeneration == generations.get().reads && state.reads.containsKey(key)) {
+                readHits.incrementAndGet();
+                return state.reads.get(key);
+            }
+            readMisses.incrementAndGet();
+            Object result = invokeOnHandle(method, args);
+            if (state.readGeneration != generations.get().reads) {
+                state.reads.clear();
+                state.readGeneration = generations.get().reads;
+            }
+            state.reads.put(key, result);
+            return result;
+        }
+
+        private Object invokeOnHandle(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(resolve(), args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+                // The screen re-rendered the element: locate it once more
+                staleRetries.incrementAndGet();
+                states.get().handle = null;
+                try {
+                    return method.invoke(resolve(), args);
+                } catch (InvocationTargetException retry) {
+                    throw retry.getCause();
+                }
+            }
+        }
+
+        /**
+         * Gets the located element, locating it (and waiting for it like PageFactory does) when needed.
+         */
+        private WebElement resolve() {
+            ElementState state = currentState();
+            long current = generations.get().handles;
+            if (state.handle != null && state.handleGeneration == current) {
+                handleHits.incrementAndGet();
+                return state.handle;
+            }
+            handleMisses.incrementAndGet();
+            state.reads.clear();
+            try {
+                state.handle = WaitEngine.until("locate: " + name, driver -> first(driver.findElements(locator)),
+                        Constants.DEFAULT_TIMEOUT);
+            } catch (TimeoutException e) {
+                throw new NoSuchElementException("Cannot locate " + name + " (" + locator + ")", e);
+            }
+            state.handleGeneration = current;
+            return state.handle;
+        }
+
+        /**
+         * Gets this thread's state, emptied if the thread has moved on to another session since.
+         */
+        private ElementState currentState() {
+            ElementState state = states.get();
+            WebDriver driver = DriverManager.getDriver();
+            if (state.driver != driver) {
+                state.driver = driver;
+                state.handle = null;
+                state.reads.clear();
+            }
+            return state;
+        }
+
+        private static WebElement first(List<WebElement> elements) {
+            return elements.isEmpty() ? null : elements.get(0);
+        }
+    }
+
+    // ==================== CACHED LISTS ====================
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> cachedList(List<WebElement> located, String name) {
+        return (List<WebElement>) Proxy.newProxyInstance(ElementCache.class.getClassLoader(),
+                new Class<?>[]{List.class}, new CachedList(located, name));
+    }
+
+    /**
+     * What one thread located through a cached list, on the session it was using then.
+     */
+    private static final class ListState {
+        private WebDriver driver;
+        private List<WebElement> elements;
+        private long generation;
+    }
+
+    /**
+     * Elements of a PageFactory list, located once per read generation since lists change with clicks.
+     */
+    private static final class CachedList implements InvocationHandler {
+        private final List<WebElement> located;
+        private final String name;
+        private final ThreadLocal<ListState> states = ThreadLocal.withInitial(ListState::new);
+
+        CachedList(List<WebElement> located, String name) {
+            this.located = located;
+            this.name = name;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals": return proxy == args[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    default: return "Cached list for: " + name;
+                }
+            }
+            ListState state = states.get();
+            WebDriver driver = DriverManager.getDriver();
+            long current = generations.get().reads;
+            if (state.elements != null && state.driver == driver && state.generation == current) {
+                handleHits.incrementAndGet();
+            } else {
+                // Copying the PageFactory list locates the elements once, with its usual wait
+                handleMisses.incrementAndGet();
+                state.elements = new ArrayList<>(located);
+                state.driver = driver;
+                state.generation = current;
+            }
+            try {
+                return method.invoke(state.elements, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
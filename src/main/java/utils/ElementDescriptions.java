@@ -0,0 +1,121 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Human-readable element names for logs, built without any remote call.
+ * Page objects register their fields after PageFactory.initElements; each element is then
+ * described by its page, field name and locator, e.g. "CartPage.goShoppingButton (AppiumBy.accessibilityId: Go Shopping button)".
+ * Elements are tracked by identity and weakly, because hashCode/equals on PageFactory proxies
+ * would locate the element and discarded page objects must not be kept alive.
+ */
+public class ElementDescriptions {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementDescriptions.class);
+    private static final Map<IdentityKey, String> descriptions = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Records a description for every WebElement field of a page object.
+     * Call it right after PageFactory.initElements(..., this).
+     */
+    public static void register(Object page) {
+        expungeCollected();
+        for (Class<?> type = page.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!WebElement.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    Object element = field.get(page);
+                    if (element != null) {
+                        descriptions.put(new IdentityKey(element, collected), describeField(page, field));
+                    }
+                } catch (IllegalAccessException e) {
+                    logger.debug("Cannot read {}.{}: {}", type.getSimpleName(), field.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the description of an element without contacting the driver.
+     * Registered fields use their page, field name and locator; located elements use the
+     * locator they were found by; anything else is just "element".
+     */
+    public static String describe(WebElement element) {
+        if (element == null) {
+            return "null";
+        }
+        String description = descriptions.get(new IdentityKey(element, null));
+        if (description != null) {
+            return description;
+        }
+        // toString() on a plain PageFactory proxy would locate the element first
+        if (Proxy.isProxyClass(element.getClass())) {
+            return "element";
+        }
+        // A located element prints as "[[Driver: ...] -> using: value]"
+        String text = element.toString();
+        int arrow = text.lastIndexOf(" -> ");
+        return arrow < 0 ? text : text.substring(arrow + 4, text.endsWith("]") ? text.length() - 1 : text.length());
+    }
+
+    private static String describeField(Object page, Field field) {
+        String name = page.getClass().getSimpleName() + "." + field.getName();
+        try {
+            By locator = PageLocators.of(field.getDeclaringClass(), field.getName());
+            LocatorProfiler.register(locator, name);
+            return name + " (" + locator + ")";
+        } catch (RuntimeException e) {
+            return name;
+        }
+    }
+
+    private static void expungeCollected() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            descriptions.remove(reference);
+        }
+    }
+
+    /**
+     * Weak key compared by identity, so lookups never call the element's own equals/hashCode.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads displayed/enabled/selected/text/attribute state of many elements in one remote call.
+ * Browsers answer a single executeScript; Appium sessions answer a single ScreenSnapshot.
+ * Locators a snapshot cannot evaluate (UiAutomator, predicates, class chains) fall back to a
+ * live lookup, so results are always complete.
+ */
+public class ElementStates {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElementStates.class);
+
+    private static final String QUERY_SCRIPT =
+            "var specs = arguments[0], attributes = arguments[1];" +
+            "function find(s) {" +
+            "  switch (s.using) {" +
+            "    case 'xpath': return document.evaluate(s.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'link text': return Array.from(document.links).find(function(a) { return a.textContent.trim() === s.value; }) || null;" +
+            "    case 'partial link text': return Array.from(document.links).find(function(a) { return a.textContent.indexOf(s.value) >= 0; }) || null;" +
+            "    case 'tag name': return document.getElementsByTagName(s.value)[0] || null;" +
+            "    default: return document.querySelector(s.value);" +
+            "  }" +
+            "}" +
+            "return specs.map(function(s) {" +
+            "  var el = find(s);" +
+            "  if (!el) return null;" +
+            "  var style = window.getComputedStyle(el);" +
+            "  var state = {" +
+            "    displayed: el.getClientRects().length > 0 && style.visibility !== 'hidden' && style.opacity !== '0'," +
+            "    enabled: !el.disabled," +
+            "    selected: !!(el.checked || el.selected)," +
+            "    text: el.innerText === undefined ? el.textContent : el.innerText," +
+            "    attributes: {}" +
+            "  };" +
+            "  attributes.forEach(function(a) { state.attributes[a] = el.getAttribute(a); });" +
+            "  return state;" +
+            "});";
+
+    /**
+     * State of one element at the time of the query.
+     */
+    public static class ElementState {
+        static final ElementState ABSENT = new ElementState(false, false, false, false, null, Collections.emptyMap());
+
+        private final boolean present;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final boolean selected;
+        private final String text;
+        private final Map<String, String> attributes;
+
+        ElementState(boolean present, boolean displayed, boolean enabled, boolean selected,
+                     String text, Map<String, String> attributes) {
+            this.present = present;
+            this.displayed = displayed;
+            this.enabled = enabled;
+            this.selected = selected;
+            this.text = text;
+            this.attributes = attributes;
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public String toString() {
+            return present ? String.format("displayed=%s, enabled=%s, selected=%s, text='%s'", displayed, enabled, selected, text)
+                    : "absent";
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Gets the state of the first element matching each locator, in one remote call.
+     * @param locators elements to read, e.g. PageLocators.of(page, "cartBadge")
+     * @param attributes extra attributes to read for every element
+     * @return state per locator, in the given order; absent elements report isPresent() == false
+     */
+    public static Map<By, ElementState> query(Collection<By> locators, String... attributes) {
+        WebDriver driver = DriverManager.getDriver();
+        if (driver instanceof AndroidDriver || driver instanceof IOSDriver) {
+            return querySnapshot(driver, locators, attributes);
+        }
+        if (driver instanceof JavascriptExecutor) {
+            return queryScript((JavascriptExecutor) driver, locators, attributes);
+        }
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        locators.forEach(locator -> states.put(locator, queryLive(driver, locator, attributes)));
+        return states;
+    }
+
+    /**
+     * Gets the state of the first element matching each locator, in one remote call.
+     */
+    public static Map<By, ElementState> query(By... locators) {
+        return query(Arrays.asList(locators));
+    }
+
+    // ==================== WEB ====================
+
+    @SuppressWarnings("unchecked")
+    private static Map<By, ElementState> queryScript(JavascriptExecutor driver, Collection<By> locators, String[] attributes) {
+        List<Map<String, String>> specs = new ArrayList<>();
+        List<By> scripted = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters parameters = getParameters(locator);
+            if (parameters != null) {
+                specs.add(Map.of("using", parameters.using(), "value", String.valueOf(parameters.value())));
+                scripted.add(locator);
+            }
+        }
+
+        List<Object> results = specs.isEmpty() ? Collections.emptyList()
+                : (List<Object>) driver.executeScript(QUERY_SCRIPT, specs, Arrays.asList(attributes));
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (By locator : locators) {
+            int index = scripted.indexOf(locator);
+            if (index < 0) {
+                states.put(locator, queryLive((WebDriver) driver, locator, attributes));
+                continue;
+            }
+            Map<String, Object> result = (Map<String, Object>) results.get(index);
+            states.put(locator, result == null ? ElementState.ABSENT : new ElementState(true,
+                    Boolean.TRUE.equals(result.get("displayed")),
+                    Boolean.TRUE.equals(result.get("enabled")),
+                    Boolean.TRUE.equals(result.get("selected")),
+                    (String) result.get("text"),
+                    toStrings((Map<String, Object>) result.get("attributes"))));
+        }
+        return states;
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> values) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        values.forEach((key, value) -> strings.put(key, value == null ? null : value.toString()));
+        return strings;
+    }
+
+    // ==================== MOBILE ====================
+
+    private static Map<By, ElementState> querySnapshot(WebDriver driver, Collection<By> locators, String[] attributes) {
+        ScreenSnapshot snapshot = ScreenSnapshot.capture(driver);
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (By locator : locators) {
+            states.put(locator, snapshot.canEvaluate(locator) ? snapshot.get(locator) : queryLive(driver, locator, attributes));
+        }
+        return states;
+    }
+
+    /**
+     * Reads the state of a page-source node, with all of its attributes.
+     */
+    static ElementState toState(Element node, boolean android) {
+        Map<String, String> values = new LinkedHashMap<>();
+        NamedNodeMap attributes = node.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            values.put(attributes.item(i).getNodeName(), attributes.item(i).getNodeValue());
+        }
+        String text;
+        if (android) {
+            text = node.getAttribute("text");
+        } else {
+            // XCUITest reports an element's value when it has one, its label otherwise
+            text = node.getAttribute("value").isEmpty() ? node.getAttribute("label") : node.getAttribute("value");
+        }
+        return new ElementState(true,
+                Boolean.parseBoolean(node.getAttribute(android ? "displayed" : "visible")),
+                Boolean.parseBoolean(node.getAttribute("enabled")),
+                Boolean.parseBoolean(node.getAttribute("selected")) || Boolean.parseBoolean(node.getAttribute("checked")),
+                text,
+                values);
+    }
+
+    /**
+     * Translates a locator to an XPath over the page source, or null if it has no equivalent.
+     */
+    static String toXPath(By locator, boolean android) {
+        By.Remotable.Parameters parameters = getParameters(locator);
+        if (parameters == null) {
+            return null;
+        }
+        return toXPath(parameters.using(), String.valueOf(parameters.value()), android);
+    }
+
+    /**
+     * Translates a W3C/Appium locator strategy and value to an XPath over the page source, or null.
+     */
+    static String toXPath(String using, String value, boolean android) {
+        switch (using) {
+            case "xpath":
+                return value;
+            case "accessibility id":
+                return "//*[@" + (android ? "content-desc" : "name") + "=" + quote(value) + "]";
+            case "id":
+                return android
+                        ? "//*[@resource-id=" + quote(value) + " or substring-after(@resource-id, ':id/')=" + quote(value) + "]"
+                        : "//*[@name=" + quote(value) + "]";
+            case "class name":
+                return "//" + value;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Quotes a value as an XPath string literal.
+     */
+    static String quote(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+
+    /**
+     * Parses a page source, or returns null (and logs why) if it is not well-formed.
+     */
+    static Document parse(String pageSource) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newDocumentBuilder().parse(new InputSource(new StringReader(pageSource)));
+        } catch (Exception e) {
+            logger.warn("Page source could not be parsed, falling back to live lookups: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    static By.Remotable.Parameters getParameters(By locator) {
+        return locator instanceof By.Remotable ? ((By.Remotable) locator).getRemoteParameters() : null;
+    }
+
+    /**
+     * Reads one element with individual commands, for locators the batch cannot evaluate.
+     */
+    private static ElementState queryLive(WebDriver driver, By locator, String[] attributes) {
+        List<WebElement> elements = driver.findElements(locator);
+        return elements.isEmpty() ? ElementState.ABSENT : readLive(elements.get(0), attributes);
+    }
+
+    /**
+     * Reads one located element with individual commands.
+     */
+    static ElementState readLive(WebElement element, String... attributes) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String attribute : attributes) {
+            values.put(attribute, element.getAttribute(attribute));
+        }
+        return new ElementState(true, element.isDisplayed(), element.isEnabled(), element.isSelected(),
+                element.getText(), values);
+    }
+}
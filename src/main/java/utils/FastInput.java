@@ -0,0 +1,217 @@
+package utils;
+
+import io.appium.java_client.HasSettings;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyboard-free text input for form fields.
+ * With input.fast.enabled, Actions.type sets a field's value in one command instead of clearing it
+ * and typing key by key: mobile: replaceElementValue on UiAutomator2, the native value setter plus
+ * input/change events in browsers. iOS has no value-replacement command, so XCUITest keeps typing
+ * but at input.fast.iosTypingFrequency keys per minute.
+ * The first fast fill of each field is read back; a field whose value did not stick (input masks,
+ * key handlers) is typed with real keystrokes from then on. Per-field latencies of both kinds are
+ * kept, so the report shows what fast input saves.
+ */
+public class FastInput {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastInput.class);
+
+    // Shared with Form, which fills several fields in one script
+    static final String SET_VALUE_FUNCTION =
+            "function setValue(el, text) {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+            "    : el instanceof HTMLInputElement ? HTMLInputElement.prototype : null;" +
+            "  if (!proto || el.readOnly || el.disabled) { return false; }" +
+            "  el.focus();" +
+            // The prototype setter keeps frameworks that track the value property (React) in sync
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, text);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return el.value === text;" +
+            "}";
+    private static final String SET_VALUE_SCRIPT = SET_VALUE_FUNCTION + "return setValue(arguments[0], arguments[1]);";
+
+    private static final long iosTypingFrequency = Long.parseLong(Config.get("input.fast.iosTypingFrequency", "300"));
+    // Fields known to need real keystrokes, and fields whose fast fill has been read back once
+    private static final Set<String> keystrokeFields = ConcurrentHashMap.newKeySet();
+    private static final Set<String> verifiedFields = ConcurrentHashMap.newKeySet();
+    private static final Set<WebDriver> tunedSessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<String, FieldStats> stats = new ConcurrentHashMap<>();
+    private static final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * Checks input.fast.enabled on each call, so a system property can switch it per run.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Config.get("input.fast.enabled", "true"));
+    }
+
+    // ==================== INPUT ====================
+
+    /**
+     * Replaces the field's text, without the keyboard where the platform allows it.
+     * The element is expected to be visible already.
+     */
+    public static void type(WebElement element, String text) {
+        String field = ElementDescriptions.describe(element);
+        if (keystrokeFields.contains(field)) {
+            typeKeys(element, text);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        if (setValue(element, field, text, true)) {
+            stats(field).recordFast(System.currentTimeMillis() - start);
+            return;
+        }
+        keystrokeFields.add(field);
+        fallbacks.incrementAndGet();
+        logger.info("Fast input did not stick for {}, typing it with keystrokes from now on", field);
+        typeKeys(element, text);
+    }
+
+    /**
+     * Clears the field and types the text key by key, timing it as the keystroke baseline.
+     */
+    public static void typeKeys(WebElement element, String text) {
+        long start = System.currentTimeMillis();
+        element.clear();
+        element.sendKeys(text);
+        stats(ElementDescriptions.describe(element)).recordKeys(System.currentTimeMillis() - start, text.length());
+    }
+
+    /**
+     * Sets the value in one command without reading it back, for callers that verify it themselves.
+     * @return false if the field has to be typed with keystrokes
+     */
+    static boolean replace(WebElement element, String text) {
+        String field = ElementDescriptions.describe(element);
+        long start = System.currentTimeMillis();
+        if (keystrokeFields.contains(field) || !setValue(element, field, text, false)) {
+            return false;
+        }
+        stats(field).recordFast(System.currentTimeMillis() - start);
+        return true;
+    }
+
+    /**
+     * Sets the value in one command, reading it back on the field's first fill if asked to.
+     * @return false if the field needs real keystrokes
+     */
+    private static boolean setValue(WebElement element, String field, String text, boolean verify) {
+        WebDriver driver = DriverManager.getDriver();
+        try {
+            if (driver instanceof AndroidDriver) {
+                ((JavascriptExecutor) driver).executeScript("mobile: replaceElementValue",
+                        Map.of("elementId", idOf(element), "text", text));
+                return !verify || verifiedFields.contains(field) || readBack(element, field, text);
+            }
+            if (driver instanceof IOSDriver) {
+                tuneTyping(driver);
+                element.clear();
+                element.sendKeys(text);
+                return true;
+            }
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(SET_VALUE_SCRIPT, element, text));
+        } catch (WebDriverException e) {
+            logger.debug("Fast input failed for {}: {}", field, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads a field back after its first fast fill.
+     */
+    private static boolean readBack(WebElement element, String field, String text) {
+        if (!text.equals(element.getText())) {
+            return false;
+        }
+        verifiedFields.add(field);
+        return true;
+    }
+
+    /**
+     * Raises XCUITest's typing speed once per session.
+     */
+    private static void tuneTyping(WebDriver driver) {
+        if (tunedSessions.add(driver)) {
+            ((HasSettings) driver).setSetting("maxTypingFrequency", iosTypingFrequency);
+        }
+    }
+
+    private static String idOf(WebElement element) {
+        WebElement located = Gestures.unwrap(element);
+        if (!(located instanceof RemoteWebElement)) {
+            throw new WebDriverException("No element id for " + ElementDescriptions.describe(element));
+        }
+        return ((RemoteWebElement) located).getId();
+    }
+
+    // ==================== REPORT ====================
+
+    private static FieldStats stats(String field) {
+        return stats.computeIfAbsent(field, f -> new FieldStats());
+    }
+
+    private static class FieldStats {
+        final AtomicLong fastCount = new AtomicLong();
+        final AtomicLong fastMillis = new AtomicLong();
+        final AtomicLong keyCount = new AtomicLong();
+        final AtomicLong keyMillis = new AtomicLong();
+        final AtomicLong keyChars = new AtomicLong();
+
+        void recordFast(long millis) {
+            fastCount.incrementAndGet();
+            fastMillis.addAndGet(millis);
+        }
+
+        void recordKeys(long millis, int chars) {
+            keyCount.incrementAndGet();
+            keyMillis.addAndGet(millis);
+            keyChars.addAndGet(chars);
+        }
+    }
+
+    /**
+     * Gets fast and keystroke fill times per field, and the time fast input saved.
+     * Fields never typed with keystrokes are compared against the run's keystroke time per fill.
+     */
+    public static String getReport() {
+        long baselineCount = stats.values().stream().mapToLong(s -> s.keyCount.get()).sum();
+        long baselineMillis = stats.values().stream().mapToLong(s -> s.keyMillis.get()).sum();
+        StringBuilder lines = new StringBuilder();
+        long saved = 0;
+        for (Map.Entry<String, FieldStats> entry : new TreeMap<>(stats).entrySet()) {
+            FieldStats s = entry.getValue();
+            long fast = s.fastCount.get();
+            long keys = s.keyCount.get();
+            String line = String.format("%n  %s: fast %dx avg=%dms, keys %dx avg=%dms", entry.getKey(),
+                    fast, fast == 0 ? 0 : s.fastMillis.get() / fast, keys, keys == 0 ? 0 : s.keyMillis.get() / keys);
+            long keyAvg = keys > 0 ? s.keyMillis.get() / keys : baselineCount > 0 ? baselineMillis / baselineCount : -1;
+            if (fast > 0 && keyAvg >= 0) {
+                long fieldSaved = keyAvg * fast - s.fastMillis.get();
+                saved += fieldSaved;
+                line += String.format(", saved %dms%s", fieldSaved, keys > 0 ? "" : " (vs run average)");
+            }
+            lines.append(line);
+        }
+        return String.format("Fast input: %d field(s), %d keystroke fallback(s), saved %dms%s",
+                stats.size(), fallbacks.get(), saved, lines);
+    }
+}
@@ -0,0 +1,270 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.ExecutesDriverScript;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Declarative form fill: page-object field names mapped to the values they should hold.
+ * fill() waits once for the screen, then sets every field in a single command where the platform
+ * allows it - one script in browsers, one Appium driver script (execute_driver) on devices - and
+ * verifies every value with one screen snapshot. Sessions whose server does not allow driver
+ * scripts set each field with one fast-input command instead. Fields that still do not hold their
+ * value are typed with keystrokes. Per-field timings are logged.
+ */
+public class Form {
+
+    private static final Logger logger = LoggerFactory.getLogger(Form.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String WEB_FILL_SCRIPT = FastInput.SET_VALUE_FUNCTION +
+            "function find(f) {" +
+            "  switch (f.using) {" +
+            "    case 'xpath': return document.evaluate(f.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'css selector': return document.querySelector(f.value);" +
+            "    case 'id': return document.getElementById(f.value);" +
+            "    case 'name': return document.getElementsByName(f.value)[0];" +
+            "    case 'class name': return document.getElementsByClassName(f.value)[0];" +
+            "    case 'tag name': return document.getElementsByTagName(f.value)[0];" +
+            "    default: return null;" +
+            "  }" +
+            "}" +
+            "var fields = arguments[0], results = [];" +
+            "fields.forEach(function(f) {" +
+            "  var start = performance.now();" +
+            "  var el = find(f);" +
+            "  var ok = !!el && setValue(el, f.text);" +
+            "  results.push({ok: ok, millis: Math.round(performance.now() - start)});" +
+            "});" +
+            "return results;";
+
+    // Sessions whose Appium server refused a driver script (execute_driver is an opt-in server feature)
+    private static final Set<WebDriver> noDriverScripts = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Object page;
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    private Form(Object page) {
+        this.page = page;
+    }
+
+    /**
+     * Starts a form over a page object's fields.
+     */
+    public static Form of(Object page) {
+        return new Form(page);
+    }
+
+    /**
+     * Sets the value a field should hold, by page-object field name.
+     */
+    public Form set(String fieldName, String value) {
+        values.put(fieldName, value);
+        return this;
+    }
+
+    // ==================== FILL ====================
+
+    /**
+     * Fills every field, then verifies them all with one read.
+     * @throws IllegalStateException if a field does not hold its value even after typing it
+     */
+    public void fill() {
+        if (values.isEmpty()) {
+            return;
+        }
+        String formName = page.getClass().getSimpleName();
+        Map<String, By> locators = new LinkedHashMap<>();
+        values.keySet().forEach(field -> locators.put(field, PageLocators.of(page, field)));
+        WebDriver driver = DriverManager.getDriver();
+        By first = locators.values().iterator().next();
+        WaitEngine.until("form " + formName, d -> d.findElements(first).isEmpty() ? null : true, Constants.DEFAULT_TIMEOUT);
+
+        long start = System.currentTimeMillis();
+        Map<String, Long> timings = new LinkedHashMap<>();
+        String mode;
+        List<String> failed;
+        if (driver instanceof AppiumDriver) {
+            boolean batched = fillWithDriverScript(driver, locators, timings);
+            if (!batched) {
+                fillFieldByField(driver, locators, timings);
+            }
+            mode = batched ? "driver script" : "fast input";
+            failed = verify(locators);
+        } else {
+            mode = "script";
+            failed = fillWithScript(driver, locators, timings);
+        }
+        long fillMillis = System.currentTimeMillis() - start;
+
+        if (!failed.isEmpty()) {
+            logger.info("Form {}: {} did not take their values, typing them", formName, failed);
+            for (String field : failed) {
+                FastInput.typeKeys(driver.findElement(locators.get(field)), values.get(field));
+            }
+            List<String> stillFailed = driver instanceof AppiumDriver ? verify(locators) : List.of();
+            if (!stillFailed.isEmpty()) {
+                throw new IllegalStateException("Form " + formName + " fields do not hold their values: " + stillFailed);
+            }
+        }
+        ElementCache.invalidateReads();
+        logger.info("Filled {} field(s) of {} by {} in {} ms, typed {}: {}",
+                values.size(), formName, mode, fillMillis, failed.size(), timings);
+    }
+
+    /**
+     * Sets all fields with one Appium driver script.
+     * @return false if the server does not run driver scripts or the script failed
+     */
+    private boolean fillWithDriverScript(WebDriver driver, Map<String, By> locators, Map<String, Long> timings) {
+        if (noDriverScripts.contains(driver)) {
+            return false;
+        }
+        List<List<String>> fields = new ArrayList<>();
+        for (Map.Entry<String, By> entry : locators.entrySet()) {
+            String selector = toDriverScriptSelector(entry.getValue());
+            if (selector == null) {
+                return false;
+            }
+            fields.add(List.of(selector, values.get(entry.getKey())));
+        }
+        String script;
+        try {
+            script = "const fields = " + mapper.writeValueAsString(fields) + ";" +
+                    "const millis = [];" +
+                    "for (const [selector, text] of fields) {" +
+                    "  const start = Date.now();" +
+                    "  const el = await driver.$(selector);" +
+                    (driver instanceof AndroidDriver
+                            ? "  await driver.execute('mobile: replaceElementValue', {elementId: el.elementId, text: text});"
+                            : "  await el.setValue(text);") +
+                    "  millis.push(Date.now() - start);" +
+                    "}" +
+                    "return millis;";
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Form values cannot be encoded", e);
+        }
+        try {
+            Object result = ((ExecutesDriverScript) driver).executeDriverScript(script).getResult();
+            if (result instanceof List) {
+                List<?> millis = (List<?>) result;
+                int i = 0;
+                for (String field : locators.keySet()) {
+                    timings.put(field, i < millis.size() ? ((Number) millis.get(i++)).longValue() : -1);
+                }
+            }
+            return true;
+        } catch (WebDriverException e) {
+            noDriverScripts.add(driver);
+            logger.info("Driver scripts are not available on this Appium server, filling forms field by field: {}",
+                    e.getMessage().split("\n")[0]);
+            return false;
+        }
+    }
+
+    /**
+     * Sets each field with one fast-input command, or keystrokes where fast input is off or refused.
+     */
+    private void fillFieldByField(WebDriver driver, Map<String, By> locators, Map<String, Long> timings) {
+        for (Map.Entry<String, By> entry : locators.entrySet()) {
+            long start = System.currentTimeMillis();
+            WebElement element = driver.findElement(entry.getValue());
+            String value = values.get(entry.getKey());
+            if (!FastInput.isEnabled() || !FastInput.replace(element, value)) {
+                FastInput.typeKeys(element, value);
+            }
+            timings.put(entry.getKey(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Sets all fields with one browser script, which reads each value back as it goes.
+     * @return the fields that did not take their value
+     */
+    private List<String> fillWithScript(WebDriver driver, Map<String, By> locators, Map<String, Long> timings) {
+        List<Map<String, String>> fields = new ArrayList<>();
+        for (Map.Entry<String, By> entry : locators.entrySet()) {
+            // Strategies the script cannot look up (e.g. link text) report not ok and get typed
+            By.Remotable.Parameters parameters = ElementStates.getParameters(entry.getValue());
+            fields.add(Map.of(
+                    "using", parameters == null ? "" : parameters.using(),
+                    "value", parameters == null ? "" : String.valueOf(parameters.value()),
+                    "text", values.get(entry.getKey())));
+        }
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(WEB_FILL_SCRIPT, fields);
+        List<String> failed = new ArrayList<>();
+        int i = 0;
+        for (String field : locators.keySet()) {
+            Map<?, ?> result = (Map<?, ?>) results.get(i++);
+            timings.put(field, ((Number) result.get("millis")).longValue());
+            if (!Boolean.TRUE.equals(result.get("ok"))) {
+                failed.add(field);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Checks every field against one screen snapshot. Whitespace is ignored, since input masks group digits.
+     * @return the fields that do not hold their value
+     */
+    private List<String> verify(Map<String, By> locators) {
+        ScreenSnapshot snapshot = ScreenSnapshot.capture();
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, By> entry : locators.entrySet()) {
+            String actual = snapshot.getText(entry.getValue());
+            if (actual == null || !strip(actual).equals(strip(values.get(entry.getKey())))) {
+                failed.add(entry.getKey());
+            }
+        }
+        return failed;
+    }
+
+    private static String strip(String text) {
+        return text.replaceAll("\\s", "");
+    }
+
+    /**
+     * Translates a locator to a WebdriverIO selector for driver scripts, or null if it has none.
+     */
+    private static String toDriverScriptSelector(By locator) {
+        By.Remotable.Parameters parameters = ElementStates.getParameters(locator);
+        if (parameters == null) {
+            return null;
+        }
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "accessibility id":
+                return "~" + value;
+            case "xpath":
+                return value;
+            case "id":
+                return "id=" + value;
+            case "-android uiautomator":
+                return "android=" + value;
+            case "-ios predicate string":
+                return "-ios predicate string:" + value;
+            case "-ios class chain":
+                return "-ios class chain:" + value;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Pause;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.interactions.WheelInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Multi-step gestures sent as one W3C performActions request.
+ * Repeated taps, long presses, drags, swipes and scrolls are compiled into a single pointer
+ * (or wheel) sequence, so N taps cost one wait and one round-trip instead of N of each.
+ * Page scrolls use the driver's scroll gesture, which also reports whether the list has more.
+ * Sequences are built per call, against the element as located for that call: page-object proxies
+ * re-locate, so a sequence bound to an earlier element id would point at a stale element.
+ * Building one is local and cheap; only the viewport size, which costs a round-trip, is kept per session.
+ * Drivers that cannot perform W3C actions get the per-command path (one click per tap) instead.
+ */
+public class Gestures {
+
+    private static final Logger logger = LoggerFactory.getLogger(Gestures.class);
+    private static final Duration TAP_HOLD = Duration.ofMillis(50);
+    private static final Duration DRAG_HOLD = Duration.ofMillis(500);
+    private static final Duration MOVE_DURATION = Duration.ofMillis(400);
+
+    private static final Duration tapGap = Duration.ofMillis(Long.parseLong(Config.get("gestures.tapGapMillis", "100")));
+    private static final Duration longPressHold = Duration.ofMillis(Long.parseLong(Config.get("gestures.longPressMillis", "1500")));
+    private static final Map<WebDriver, Dimension> viewports = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong performed = new AtomicLong();
+    private static final AtomicLong perCommand = new AtomicLong();
+
+    /**
+     * Swipe directions, named after the way the finger moves.
+     */
+    public enum Direction {
+        UP, DOWN, LEFT, RIGHT
+    }
+
+    // ==================== TOUCH GESTURES ====================
+
+    /**
+     * Taps an element several times in one request, e.g. a quantity "+" button.
+     */
+    public static void tap(WebElement element, int times) {
+        if (times <= 0) {
+            return;
+        }
+        logger.info("Tapping {} time(s) on element: {}", times, ElementDescriptions.describe(element));
+        WebElement target = locate(element);
+        perform(() -> {
+            PointerInput finger = finger();
+            Sequence taps = new Sequence(finger, 0);
+            for (int i = 0; i < times; i++) {
+                if (i > 0) {
+                    taps.addAction(new Pause(finger, tapGap));
+                }
+                taps.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.fromElement(target), 0, 0));
+                taps.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
+                taps.addAction(new Pause(finger, TAP_HOLD));
+                taps.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+            }
+            return taps;
+        }, () -> {
+            for (int i = 0; i < times; i++) {
+                target.click();
+            }
+        });
+    }
+
+    /**
+     * Presses and holds an element for gestures.longPressMillis.
+     */
+    public static void longPress(WebElement element) {
+        logger.info("Long pressing element: {}", ElementDescriptions.describe(element));
+        WebElement target = locate(element);
+        perform(() -> {
+            PointerInput finger = finger();
+            return new Sequence(finger, 0)
+                    .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.fromElement(target), 0, 0))
+                    .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                    .addAction(new Pause(finger, longPressHold))
+                    .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        }, target::click);
+    }
+
+    /**
+     * Drags one element onto another.
+     */
+    public static void drag(WebElement from, WebElement to) {
+        logger.info("Dragging {} to {}", ElementDescriptions.describe(from), ElementDescriptions.describe(to));
+        WebElement source = locate(from);
+        WebElement target = locate(to);
+        perform(() -> {
+            PointerInput finger = finger();
+            return new Sequence(finger, 0)
+                    .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.fromElement(source), 0, 0))
+                    .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                    .addAction(new Pause(finger, DRAG_HOLD))
+                    .addAction(finger.createPointerMove(MOVE_DURATION, PointerInput.Origin.fromElement(target), 0, 0))
+                    .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        }, () -> unsupported("drag"));
+    }
+
+    /**
+     * Swipes across the middle of the screen, from 70% to 30% of its height or width.
+     */
+    public static void swipe(Direction direction) {
+        logger.info("Swiping {}", direction.name().toLowerCase());
+        WebDriver driver = DriverManager.getDriver();
+        Dimension size = viewports.computeIfAbsent(driver, d -> d.manage().window().getSize());
+        perform(() -> {
+            int centerX = size.getWidth() / 2;
+            int centerY = size.getHeight() / 2;
+            int nearX = size.getWidth() * 3 / 10;
+            int farX = size.getWidth() * 7 / 10;
+            int nearY = size.getHeight() * 3 / 10;
+            int farY = size.getHeight() * 7 / 10;
+            switch (direction) {
+                case UP: return swipeSequence(centerX, farY, centerX, nearY);
+                case DOWN: return swipeSequence(centerX, nearY, centerX, farY);
+                case LEFT: return swipeSequence(farX, centerY, nearX, centerY);
+                default: return swipeSequence(nearX, centerY, farX, centerY);
+            }
+        }, () -> unsupported("swipe"));
+    }
+
+    private static Sequence swipeSequence(int startX, int startY, int endX, int endY) {
+        PointerInput finger = finger();
+        return new Sequence(finger, 0)
+                .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), startX, startY))
+                .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                .addAction(finger.createPointerMove(MOVE_DURATION, PointerInput.Origin.viewport(), endX, endY))
+                .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+    }
+
+    /**
+     * Scrolls the list on screen by most of a page; DOWN shows the items further down.
+     * Uses the driver's own scroll gesture where there is one, so a step costs one command.
+     * @return whether the list can scroll further that way, or null if the platform does not say
+     */
+    public static Boolean scrollPage(Direction direction) {
+        logger.info("Scrolling a page {}", direction.name().toLowerCase());
+        WebDriver driver = DriverManager.getDriver();
+        Object canScrollMore;
+        if (driver instanceof AndroidDriver) {
+            Dimension size = viewports.computeIfAbsent(driver, d -> d.manage().window().getSize());
+            // Leave a quarter of the page in view, so items cut off at the edge are seen whole next time
+            canScrollMore = ((JavascriptExecutor) driver).executeScript("mobile: scrollGesture", Map.of(
+                    "left", size.getWidth() / 10, "top", size.getHeight() / 5,
+                    "width", size.getWidth() * 8 / 10, "height", size.getHeight() * 3 / 5,
+                    "direction", direction.name().toLowerCase(), "percent", 0.75));
+        } else if (driver instanceof IOSDriver) {
+            canScrollMore = ((JavascriptExecutor) driver).executeScript("mobile: scroll",
+                    Map.of("direction", direction.name().toLowerCase()));
+        } else {
+            swipe(direction == Direction.DOWN ? Direction.UP : Direction.DOWN);
+            return null;
+        }
+        performed.incrementAndGet();
+        ElementCache.invalidateReads();
+        return canScrollMore instanceof Boolean ? (Boolean) canScrollMore : null;
+    }
+
+    // ==================== WHEEL GESTURES ====================
+
+    /**
+     * Scrolls the page until the element is in view (browsers).
+     */
+    public static void scrollTo(WebElement element) {
+        WebElement target = unwrap(element);
+        perform(() -> {
+            WheelInput wheel = new WheelInput("wheel");
+            return new Sequence(wheel, 0)
+                    .addAction(wheel.createScroll(0, 0, 0, 0, Duration.ZERO, WheelInput.ScrollOrigin.fromElement(target)));
+        }, () -> ((JavascriptExecutor) DriverManager.getDriver()).executeScript("arguments[0].scrollIntoView(true);", target));
+    }
+
+    // ==================== SENDING ====================
+
+    /**
+     * Sends the gesture as one action sequence, or runs its per-command version on drivers without W3C actions.
+     */
+    private static void perform(Supplier<Sequence> sequence, Runnable perCommandPath) {
+        WebDriver driver = DriverManager.getDriver();
+        if (driver instanceof Interactive) {
+            ((Interactive) driver).perform(List.of(sequence.get()));
+            performed.incrementAndGet();
+        } else {
+            logger.debug("{} cannot perform W3C actions - sending the gesture command by command",
+                    driver.getClass().getSimpleName());
+            perCommandPath.run();
+            perCommand.incrementAndGet();
+        }
+        ElementCache.invalidateReads();
+    }
+
+    /**
+     * Per-command path of gestures that have no command-by-command equivalent.
+     */
+    private static void unsupported(String gesture) {
+        throw new UnsupportedOperationException("A " + gesture + " needs a driver that can perform W3C actions");
+    }
+
+    /**
+     * Waits until the element can be acted on and gets the located element the sequence refers to.
+     */
+    private static WebElement locate(WebElement element) {
+        Actions.waitForClickable(element, Constants.DEFAULT_TIMEOUT);
+        return unwrap(element);
+    }
+
+    /**
+     * Resolves page-object and cache proxies to the element the driver located.
+     */
+    static WebElement unwrap(WebElement element) {
+        WebElement located = element;
+        while (located instanceof WrapsElement) {
+            located = ((WrapsElement) located).getWrappedElement();
+        }
+        return located;
+    }
+
+    private static PointerInput finger() {
+        return new PointerInput(PointerInput.Kind.TOUCH, "finger");
+    }
+
+    /**
+     * Gets the number of gestures sent as action sequences and command by command.
+     */
+    public static String getReport() {
+        return String.format("Gestures: %d sent as action sequences, %d command by command",
+                performed.get(), perCommand.get());
+    }
+}
@@ -0,0 +1,115 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads every item of a virtualized list, not just the ones rendered.
+ * Each step reads the rendered items from one screen snapshot, keyed by a label inside each item,
+ * then scrolls most of a page; items seen again are merged, not repeated. Harvesting stops as soon
+ * as the expected number of items is known or the list cannot scroll further, and the list is
+ * scrolled back to where it was, so the screen looks untouched afterwards.
+ * Harvest from the top of the list: items above the starting point are not read.
+ */
+public class ListHarvester {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListHarvester.class);
+    private static final int maxScrolls = Integer.parseInt(Config.get("lists.harvest.maxScrolls", "20"));
+
+    /**
+     * Harvests a list's items in list order.
+     * @param item locator of each list item (e.g. "store item")
+     * @param key locator, within an item, of the label that identifies it (e.g. its name)
+     * @param columns locators, within an item, of further values to read (e.g. its price)
+     * @param expected number of items the list is known to hold, or 0 to read until the end
+     * @return one row per item: the key, then each column (null if never seen)
+     */
+    public static List<List<String>> harvest(By item, By key, List<By> columns, int expected) {
+        long start = System.currentTimeMillis();
+        By[] children = new By[columns.size() + 1];
+        children[0] = key;
+        for (int i = 0; i < columns.size(); i++) {
+            children[i + 1] = columns.get(i);
+        }
+        Map<String, List<String>> rows = new LinkedHashMap<>();
+        collect(ScreenSnapshot.captureWhenPresent(item), item, children, rows);
+        int scrolls = 0;
+        boolean more = true;
+        while (more && (expected <= 0 || !complete(rows, expected)) && scrolls < maxScrolls) {
+            int known = rows.size();
+            Boolean canScrollMore = Gestures.scrollPage(Gestures.Direction.DOWN);
+            scrolls++;
+            collect(ScreenSnapshot.capture(), item, children, rows);
+            // Without an answer from the driver, a page that shows nothing new is the end of the list
+            more = canScrollMore != null ? canScrollMore : rows.size() > known;
+        }
+        for (int i = 0; i < scrolls; i++) {
+            Gestures.scrollPage(Gestures.Direction.UP);
+        }
+        if (expected > 0 && rows.size() < expected) {
+            logger.warn("Harvested {} of {} expected items of {}", rows.size(), expected, item);
+        }
+        logger.info("Harvested {} item(s) of {} with {} scroll(s) in {} ms",
+                rows.size(), item, scrolls, System.currentTimeMillis() - start);
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * Scrolls until an element is on screen, trying one direction first and then the other.
+     * @param preferred the direction the element is expected in, e.g. from a harvested position
+     * @return whether the element is on screen
+     */
+    public static boolean scrollIntoView(By locator, Gestures.Direction preferred) {
+        if (Probes.isPresent(locator, Duration.ZERO)) {
+            return true;
+        }
+        Gestures.Direction opposite = preferred == Gestures.Direction.DOWN ? Gestures.Direction.UP : Gestures.Direction.DOWN;
+        for (Gestures.Direction direction : List.of(preferred, opposite)) {
+            // Going back the other way first undoes the scrolls already made
+            int steps = direction == preferred ? maxScrolls : 2 * maxScrolls;
+            for (int i = 0; i < steps; i++) {
+                Boolean canScrollMore = Gestures.scrollPage(direction);
+                if (Probes.isPresent(locator, Duration.ZERO)) {
+                    return true;
+                }
+                if (Boolean.FALSE.equals(canScrollMore)) {
+                    break;
+                }
+            }
+        }
+        logger.warn("{} is not in the list", locator);
+        return false;
+    }
+
+    /**
+     * Merges the items rendered in a snapshot into the rows, keeping the first position of each.
+     */
+    private static void collect(ScreenSnapshot snapshot, By item, By[] children, Map<String, List<String>> rows) {
+        for (List<String> row : snapshot.getTextsWithin(item, children)) {
+            String key = row.get(0);
+            if (key == null) {
+                continue;
+            }
+            List<String> known = rows.putIfAbsent(key, new ArrayList<>(row));
+            if (known != null) {
+                // Fill in values an earlier page cut off
+                for (int i = 1; i < row.size(); i++) {
+                    if (known.get(i) == null) {
+                        known.set(i, row.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean complete(Map<String, List<String>> rows, int expected) {
+        return rows.size() >= expected && rows.values().stream().noneMatch(row -> row.contains(null));
+    }
+}
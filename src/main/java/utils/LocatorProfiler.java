@@ -0,0 +1,420 @@
+package utils;
+
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times every element lookup by locator and ranks the page-object fields that cost the most.
+ * Lookups are timed by the metering command executor (see CommandMetrics) and named after the
+ * page-object fields registered with ElementDescriptions. On Appium sessions advise() tries faster
+ * strategies (accessibility id, id, UiAutomator, iOS predicate/class chain) for slow locators on the
+ * current screen and recommends the ones that find the same elements in less time.
+ */
+public class LocatorProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorProfiler.class);
+    private static final boolean enabled = Boolean.parseBoolean(Config.get("locators.profile.enabled", "true"));
+    private static final int samples = Integer.parseInt(Config.get("locators.profile.samples", "3"));
+    private static final Set<String> FIND_COMMANDS = Set.of(DriverCommand.FIND_ELEMENT, DriverCommand.FIND_ELEMENTS,
+            DriverCommand.FIND_CHILD_ELEMENT, DriverCommand.FIND_CHILD_ELEMENTS);
+    // Only strategies that a page source can evaluate are worth advising on
+    private static final Set<String> ADVISED_STRATEGIES = Set.of("xpath", "class name");
+
+    private static final Map<String, LocatorTimes> times = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> fields = new ConcurrentHashMap<>();
+    private static final Map<String, Advice> advice = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> measuring = ThreadLocal.withInitial(() -> false);
+
+    // ==================== PROFILING ====================
+
+    /**
+     * Names a locator after the page-object field that declares it.
+     */
+    public static void register(By locator, String field) {
+        String key = keyOf(locator);
+        if (key != null) {
+            fields.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(field);
+        }
+    }
+
+    /**
+     * Records how long a command took if it was an element lookup.
+     */
+    static void record(Command command, long millis) {
+        if (!enabled || measuring.get() || !FIND_COMMANDS.contains(command.getName())) {
+            return;
+        }
+        Object using = command.getParameters().get("using");
+        Object value = command.getParameters().get("value");
+        if (using != null && value != null) {
+            times.computeIfAbsent(using + ": " + value, key -> new LocatorTimes()).add(millis);
+        }
+    }
+
+    // ==================== ADVICE ====================
+
+    /**
+     * Tries faster strategies for the slow locators present on the current screen.
+     * Each locator is advised on once per run; locators not on screen are tried again next time.
+     */
+    public static synchronized void advise(WebDriver driver) {
+        if (!enabled || !(driver instanceof AndroidDriver || driver instanceof IOSDriver)) {
+            return;
+        }
+        List<String> pending = new ArrayList<>();
+        times.keySet().stream()
+                .filter(key -> !advice.containsKey(key) && ADVISED_STRATEGIES.contains(usingOf(key)))
+                .forEach(pending::add);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        boolean android = driver instanceof AndroidDriver;
+        measuring.set(true);
+        try {
+            Document snapshot = ElementStates.parse(driver.getPageSource());
+            if (snapshot == null) {
+                return;
+            }
+            for (String key : pending) {
+                Element node = firstMatch(snapshot, ElementStates.toXPath(usingOf(key), valueOf(key), android));
+                if (node != null) {
+                    advice.put(key, measure(driver, toBy(key), candidates(snapshot, node, android), android));
+                }
+            }
+        } finally {
+            measuring.set(false);
+        }
+    }
+
+    /**
+     * Times the current locator and each candidate, keeping the fastest candidate that finds the same elements.
+     */
+    private static Advice measure(WebDriver driver, By current, List<By> candidates, boolean android) {
+        Timing baseline = time(driver, current);
+        if (baseline.elementIds.isEmpty()) {
+            return new Advice(null, baseline.medianMillis, baseline.medianMillis);
+        }
+        By best = null;
+        long bestMillis = Long.MAX_VALUE;
+        for (By candidate : candidates) {
+            Timing timing = time(driver, candidate);
+            if (timing.elementIds.equals(baseline.elementIds) && timing.medianMillis < bestMillis) {
+                best = candidate;
+                bestMillis = timing.medianMillis;
+            }
+        }
+        return best != null && bestMillis < baseline.medianMillis
+                ? new Advice(annotationOf(best, android), baseline.medianMillis, bestMillis)
+                : new Advice(null, baseline.medianMillis, baseline.medianMillis);
+    }
+
+    private static Timing time(WebDriver driver, By locator) {
+        long[] millis = new long[Math.max(1, samples)];
+        List<WebElement> found = List.of();
+        for (int i = 0; i < millis.length; i++) {
+            long start = System.nanoTime();
+            try {
+                found = driver.findElements(locator);
+            } catch (RuntimeException e) {
+                // A strategy the server does not support never qualifies
+                found = List.of();
+            }
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        List<String> ids = new ArrayList<>();
+        found.forEach(element -> ids.add(element instanceof RemoteWebElement ? ((RemoteWebElement) element).getId() : element.toString()));
+        return new Timing(millis[millis.length / 2], ids);
+    }
+
+    // ==================== CANDIDATES ====================
+
+    /**
+     * Builds locators that should find the same node, fastest strategies first.
+     */
+    private static List<By> candidates(Document snapshot, Element node, boolean android) {
+        List<By> candidates = new ArrayList<>();
+        if (android) {
+            String description = node.getAttribute("content-desc");
+            String resourceId = node.getAttribute("resource-id");
+            String text = node.getAttribute("text");
+            if (!description.isEmpty()) {
+                int[] position = position(snapshot, node, "content-desc", description);
+                candidates.add(position[1] == 1 ? AppiumBy.accessibilityId(description)
+                        : AppiumBy.androidUIAutomator(uiSelector("description", description, position)));
+            }
+            if (!resourceId.isEmpty()) {
+                int[] position = position(snapshot, node, "resource-id", resourceId);
+                candidates.add(position[1] == 1 ? AppiumBy.id(resourceId)
+                        : AppiumBy.androidUIAutomator(uiSelector("resourceId", resourceId, position)));
+            }
+            if (!text.isEmpty()) {
+                candidates.add(AppiumBy.androidUIAutomator(uiSelector("text", text, position(snapshot, node, "text", text))));
+            }
+            Element anchor = candidates.isEmpty() ? namedAncestor(snapshot, node, "content-desc") : null;
+            if (anchor != null && isFirstOfType(anchor, node)) {
+                candidates.add(AppiumBy.androidUIAutomator("new UiSelector().description(" + javaString(anchor.getAttribute("content-desc"))
+                        + ").childSelector(new UiSelector().className(" + javaString(node.getTagName()) + "))"));
+            }
+        } else {
+            String name = node.getAttribute("name");
+            String label = node.getAttribute("label");
+            if (!name.isEmpty()) {
+                int[] position = position(snapshot, node, "name", name);
+                if (position[1] == 1) {
+                    candidates.add(AppiumBy.accessibilityId(name));
+                    candidates.add(AppiumBy.iOSNsPredicateString("name == " + javaString(name)));
+                } else {
+                    candidates.add(AppiumBy.iOSClassChain(classChain(node.getTagName(), "name", name) + "[" + (position[0] + 1) + "]"));
+                }
+            }
+            if (!label.isEmpty() && !label.equals(name) && position(snapshot, node, "label", label)[1] == 1) {
+                candidates.add(AppiumBy.iOSNsPredicateString("label == " + javaString(label)));
+            }
+            Element anchor = candidates.isEmpty() ? namedAncestor(snapshot, node, "name") : null;
+            if (anchor != null && isFirstOfType(anchor, node)) {
+                candidates.add(AppiumBy.iOSClassChain(classChain(anchor.getTagName(), "name", anchor.getAttribute("name"))
+                        + "/**/" + node.getTagName() + "[1]"));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the node's index among the nodes sharing an attribute value, and how many there are.
+     */
+    private static int[] position(Document snapshot, Element node, String attribute, String value) {
+        NodeList matches = evaluate(snapshot, "//*[@" + attribute + "=" + ElementStates.quote(value) + "]");
+        if (matches == null) {
+            return new int[]{0, 0};
+        }
+        for (int i = 0; i < matches.getLength(); i++) {
+            if (matches.item(i) == node) {
+                return new int[]{i, matches.getLength()};
+            }
+        }
+        return new int[]{0, matches.getLength()};
+    }
+
+    /**
+     * Gets the closest ancestor identified by a unique attribute value, or null.
+     */
+    private static Element namedAncestor(Document snapshot, Element node, String attribute) {
+        for (Node parent = node.getParentNode(); parent instanceof Element; parent = parent.getParentNode()) {
+            Element ancestor = (Element) parent;
+            String value = ancestor.getAttribute(attribute);
+            if (!value.isEmpty()) {
+                return position(snapshot, ancestor, attribute, value)[1] == 1 ? ancestor : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFirstOfType(Element ancestor, Element node) {
+        NodeList descendants = ancestor.getElementsByTagName(node.getTagName());
+        return descendants.getLength() > 0 && descendants.item(0) == node;
+    }
+
+    private static String uiSelector(String method, String value, int[] position) {
+        String selector = "new UiSelector()." + method + "(" + javaString(value) + ")";
+        return position[1] > 1 ? selector + ".instance(" + position[0] + ")" : selector;
+    }
+
+    private static String classChain(String type, String attribute, String value) {
+        return "**/" + type + "[`" + attribute + " == " + javaString(value) + "`]";
+    }
+
+    private static String javaString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    // ==================== REPORT ====================
+
+    /**
+     * Gets the locators ranked by total lookup time, followed by the recommended replacements.
+     */
+    public static String getReport() {
+        List<Map.Entry<String, LocatorTimes>> ranked = new ArrayList<>(times.entrySet());
+        ranked.sort(Comparator.comparingLong((Map.Entry<String, LocatorTimes> entry) -> entry.getValue().total()).reversed());
+        long lookups = ranked.stream().mapToLong(entry -> entry.getValue().count()).sum();
+        long total = ranked.stream().mapToLong(entry -> entry.getValue().total()).sum();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Locator profile: %d lookups of %d locators in %d ms%n%n", lookups, ranked.size(), total));
+        report.append(String.format("%8s %6s %7s  %-20s %s%n", "Total", "Count", "Mean", "Strategy", "Field"));
+        for (Map.Entry<String, LocatorTimes> entry : ranked) {
+            LocatorTimes locator = entry.getValue();
+            report.append(String.format("%6dms %6d %5dms  %-20s %s%n", locator.total(), locator.count(),
+                    locator.total() / Math.max(1, locator.count()), usingOf(entry.getKey()), fieldsOf(entry.getKey())));
+        }
+
+        report.append(String.format("%nRecommendations (measured on the live screen, median of %d lookups):%n", samples));
+        int recommended = 0;
+        for (Map.Entry<String, LocatorTimes> entry : ranked) {
+            Advice advised = advice.get(entry.getKey());
+            if (advised == null || advised.replacement == null) {
+                continue;
+            }
+            recommended++;
+            long saved = advised.currentMillis - advised.replacementMillis;
+            report.append(String.format("%s%n  now:  %s (%d ms)%n  use:  %s (%d ms, %d%% faster, ~%d ms saved over this run)%n",
+                    fieldsOf(entry.getKey()), entry.getKey(), advised.currentMillis, advised.replacement,
+                    advised.replacementMillis, saved * 100 / Math.max(1, advised.currentMillis), saved * entry.getValue().count()));
+        }
+        if (recommended == 0) {
+            report.append(String.format("  none%s%n", advice.isEmpty() ? " (run with locators.profile.advise=true on a device)" : ""));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to locators.profile.file, if any lookup was timed.
+     */
+    public static void writeReport() {
+        if (!enabled || times.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(Config.get("locators.profile.file", "target/locator-profile.txt"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, getReport().getBytes(StandardCharsets.UTF_8));
+            logger.info("Locator profile written to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to write locator profile to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the page-object annotation attribute for a locator, e.g. @AndroidFindBy(accessibility = "cart badge").
+     */
+    private static String annotationOf(By locator, boolean android) {
+        String using = usingOf(keyOf(locator));
+        String value = javaString(valueOf(keyOf(locator)));
+        String annotation = android ? "@AndroidFindBy" : "@iOSXCUITFindBy";
+        switch (using) {
+            case "accessibility id": return annotation + "(accessibility = " + value + ")";
+            case "id": return annotation + "(id = " + value + ")";
+            case "-android uiautomator": return "@AndroidFindBy(uiAutomator = " + value + ")";
+            case "-ios predicate string": return "@iOSXCUITFindBy(iOSNsPredicate = " + value + ")";
+            case "-ios class chain": return "@iOSXCUITFindBy(iOSClassChain = " + value + ")";
+            default: return locator.toString();
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static String keyOf(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return parameters.using() + ": " + parameters.value();
+    }
+
+    private static String usingOf(String key) {
+        return key.substring(0, key.indexOf(": "));
+    }
+
+    private static String valueOf(String key) {
+        return key.substring(key.indexOf(": ") + 2);
+    }
+
+    private static By toBy(String key) {
+        return usingOf(key).equals("xpath") ? By.xpath(valueOf(key)) : By.className(valueOf(key));
+    }
+
+    private static String fieldsOf(String key) {
+        Set<String> names = fields.get(key);
+        return names == null || names.isEmpty() ? valueOf(key) : String.join(", ", new TreeSet<>(names));
+    }
+
+    private static Element firstMatch(Document snapshot, String xpath) {
+        NodeList matches = xpath == null ? null : evaluate(snapshot, xpath);
+        return matches != null && matches.getLength() > 0 && matches.item(0) instanceof Element ? (Element) matches.item(0) : null;
+    }
+
+    private static NodeList evaluate(Document snapshot, String xpath) {
+        try {
+            return (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, snapshot, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            logger.debug("Cannot evaluate {} on the page source: {}", xpath, e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== DATA ====================
+
+    private static final class LocatorTimes {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+
+        void add(long millis) {
+            count.incrementAndGet();
+            total.addAndGet(millis);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        long total() {
+            return total.get();
+        }
+    }
+
+    private static final class Timing {
+        private final long medianMillis;
+        private final List<String> elementIds;
+
+        Timing(long medianMillis, List<String> elementIds) {
+            this.medianMillis = medianMillis;
+            this.elementIds = elementIds;
+        }
+    }
+
+    private static final class Advice {
+        private final String replacement;
+        private final long currentMillis;
+        private final long replacementMillis;
+
+        Advice(String replacement, long currentMillis, long replacementMillis) {
+            this.replacement = replacement;
+            this.currentMillis = currentMillis;
+            this.replacementMillis = replacementMillis;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks unneeded network requests (images, fonts, analytics, ads) in Chrome/Edge sessions
+ * through the DevTools protocol, and counts what was blocked for each test.
+ * URL patterns use Network.setBlockedURLs; resource types use Fetch interception.
+ * Blocked requests are stopped before a response arrives, so only their count is known, not their size.
+ * Raw CDP commands are used so it works with any Chrome version.
+ */
+public class NetworkBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    // ==================== FAST PROFILE ====================
+
+    private static final List<String> FAST_PROFILE_URLS = List.of(
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+            "*googlesyndication.com*", "*adservice.google.*", "*facebook.net*",
+            "*hotjar.com*", "*.woff", "*.woff2", "*.ttf");
+    private static final List<String> FAST_PROFILE_RESOURCE_TYPES = List.of("Image", "Font", "Media");
+
+    private static final Map<WebDriver, NetworkBlocker> blockers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    // Traffic of the test using the session; null while the session is idle, so nothing leaks into the next test
+    private volatile TestTraffic traffic;
+
+    private NetworkBlocker(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Installs request blocking on a new session when any blocking is configured.
+     * Sessions without DevTools (e.g. Firefox) are left untouched.
+     */
+    public static void install(WebDriver driver) {
+        Set<String> urls = new LinkedHashSet<>(splitConfig("web.block.urls"));
+        Set<String> resourceTypes = new LinkedHashSet<>(splitConfig("web.block.resourceTypes"));
+        if ("fast".equalsIgnoreCase(Config.get("web.block.profile", "none"))) {
+            urls.addAll(FAST_PROFILE_URLS);
+            resourceTypes.addAll(FAST_PROFILE_RESOURCE_TYPES);
+        }
+        if (urls.isEmpty() && resourceTypes.isEmpty()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.info("Request blocking skipped - {} has no DevTools support", driver.getClass().getSimpleName());
+            return;
+        }
+
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkBlocker blocker = new NetworkBlocker(devTools);
+            blocker.start(new ArrayList<>(urls), new ArrayList<>(resourceTypes));
+            blockers.put(driver, blocker);
+            logger.info("Request blocking installed: {} URL pattern(s), resource types {}", urls.size(), resourceTypes);
+        } catch (Exception e) {
+            logger.warn("Failed to install request blocking: {}", e.getMessage());
+        }
+    }
+
+    // ==================== PER-TEST STATS ====================
+
+    /**
+     * Starts counting a session's requests for the test that just leased it.
+     */
+    public static void startTest(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        if (blocker != null) {
+            blocker.traffic = new TestTraffic();
+        }
+    }
+
+    /**
+     * Stops counting a session's requests for the current test.
+     * @return a summary of the test's blocked and loaded requests, or null if blocking is off
+     */
+    public static String finishTest(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        if (blocker == null || blocker.traffic == null) {
+            return null;
+        }
+        TestTraffic traffic = blocker.traffic;
+        blocker.traffic = null;
+        return traffic.getReport();
+    }
+
+    // ==================== CDP WIRING ====================
+
+    @SuppressWarnings("unchecked")
+    private void start(List<String> urls, List<String> resourceTypes) {
+        devTools.addListener(new Event<>("Network.loadingFailed", input -> (Map<String, Object>) input.read(Map.class)),
+                params -> {
+                    TestTraffic current = traffic;
+                    if (current != null && params.get("blockedReason") != null) {
+                        current.countBlocked(String.valueOf(params.get("type")));
+                    }
+                });
+        devTools.addListener(new Event<>("Network.loadingFinished", input -> (Map<String, Object>) input.read(Map.class)),
+                params -> {
+                    TestTraffic current = traffic;
+                    if (current != null) {
+                        current.countLoaded(params.get("encodedDataLength"));
+                    }
+                });
+
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        if (!urls.isEmpty()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", urls)));
+        }
+
+        if (!resourceTypes.isEmpty()) {
+            devTools.addListener(new Event<>("Fetch.requestPaused", input -> (Map<String, Object>) input.read(Map.class)),
+                    params -> {
+                        // Only blocked resource types are intercepted, so every paused request is failed
+                        TestTraffic current = traffic;
+                        if (current != null) {
+                            current.countBlocked(String.valueOf(params.get("resourceType")));
+                        }
+                        devTools.send(new Command<>("Fetch.failRequest",
+                                Map.of("requestId", params.get("requestId"), "errorReason", "BlockedByClient")));
+                    });
+            List<Map<String, Object>> patterns = resourceTypes.stream()
+                    .map(type -> Map.<String, Object>of("urlPattern", "*", "resourceType", type, "requestStage", "Request"))
+                    .collect(Collectors.toList());
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+        }
+    }
+
+    private static List<String> splitConfig(String key) {
+        String value = Config.get(key, "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Requests one test made on a session: blocked ones by resource type, loaded ones with their bytes.
+     */
+    private static class TestTraffic {
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+        private final AtomicLong loadedRequests = new AtomicLong();
+        private final AtomicLong loadedBytes = new AtomicLong();
+
+        void countBlocked(String resourceType) {
+            blockedRequests.incrementAndGet();
+            blockedByType.computeIfAbsent(resourceType, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        void countLoaded(Object encodedDataLength) {
+            loadedRequests.incrementAndGet();
+            if (encodedDataLength instanceof Number) {
+                loadedBytes.addAndGet(((Number) encodedDataLength).longValue());
+            }
+        }
+
+        String getReport() {
+            String byType = blockedByType.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue().get())
+                    .collect(Collectors.joining(", "));
+            return String.format("Requests blocked: %d [%s] (size unknown - blocked before any response)%n"
+                            + "Requests loaded: %d, %d bytes over the network",
+                    blockedRequests.get(), byType, loadedRequests.get(), loadedBytes.get());
+        }
+    }
+}
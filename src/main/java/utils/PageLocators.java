@@ -0,0 +1,125 @@
+package utils;
+
+import io.appium.java_client.pagefactory.DefaultElementByBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the locator of a page-object field from its annotations, without touching the device.
+ * Uses the same builders as PageFactory, so @AndroidFindBy/@iOSXCUITFindBy fields resolve for the
+ * current session's platform and @FindBy fields resolve as on the web.
+ */
+public class PageLocators {
+
+    private static final Map<String, By> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the locator of a field of a page object, e.g. PageLocators.of(this, "cartBadge").
+     */
+    public static By of(Object page, String fieldName) {
+        return of(page.getClass(), fieldName);
+    }
+
+    /**
+     * Gets the locator of a field declared on a page class.
+     */
+    public static By of(Class<?> pageClass, String fieldName) {
+        String platform = getPlatform();
+        return cache.computeIfAbsent(pageClass.getName() + "#" + fieldName + "@" + platform,
+                key -> build(getField(pageClass, fieldName), platform));
+    }
+
+    /**
+     * Narrows a field's locator to the elements showing a text, e.g. the list item named "Sauce Labs Onesie".
+     * The result is an XPath, so screen snapshots and probes can evaluate it.
+     */
+    public static By withText(Object page, String fieldName, String text) {
+        boolean android = getPlatform().equalsIgnoreCase("android");
+        By locator = of(page, fieldName);
+        String xpath = ElementStates.toXPath(locator, android);
+        if (xpath == null) {
+            throw new IllegalArgumentException("Cannot narrow " + locator + " by text");
+        }
+        return By.xpath("(" + xpath + ")[@" + (android ? "text" : "label") + "=" + ElementStates.quote(text) + "]");
+    }
+
+    private static By build(Field field, String platform) {
+        if (platform.isEmpty()) {
+            return new Annotations(field).buildBy();
+        }
+        NativeByBuilder builder = new NativeByBuilder(platform, getAutomation());
+        builder.setAnnotated(field);
+        return unwrap(builder.buildNativeBy());
+    }
+
+    /**
+     * Exposes the native-context locator PageFactory would use, without the content-switching wrapper.
+     */
+    private static final class NativeByBuilder extends DefaultElementByBuilder {
+        NativeByBuilder(String platform, String automation) {
+            super(platform, automation);
+        }
+
+        By buildNativeBy() {
+            By by = buildMobileNativeBy();
+            return by != null ? by : buildDefaultBy();
+        }
+    }
+
+    /**
+     * Appium wraps even a single annotation in a ByChained; unwrap it so the locator is Remotable.
+     */
+    private static By unwrap(By by) {
+        if (!(by instanceof ByChained)) {
+            return by;
+        }
+        try {
+            Field bys = ByChained.class.getDeclaredField("bys");
+            bys.setAccessible(true);
+            By[] chain = (By[]) bys.get(by);
+            return chain.length == 1 ? unwrap(chain[0]) : by;
+        } catch (ReflectiveOperationException e) {
+            return by;
+        }
+    }
+
+    private static Field getField(Class<?> pageClass, String fieldName) {
+        for (Class<?> type = pageClass; type != null; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // Keep looking in the superclass
+            }
+        }
+        throw new IllegalArgumentException("No field '" + fieldName + "' on " + pageClass.getName());
+    }
+
+    /**
+     * Gets the platform of the current session (Android, iOS), or "" for browsers.
+     */
+    private static String getPlatform() {
+        Capabilities capabilities = getCapabilities();
+        Object platform = capabilities == null ? null : capabilities.getCapability("platformName");
+        String name = platform == null ? "" : platform.toString();
+        return name.equalsIgnoreCase("android") || name.equalsIgnoreCase("ios") ? name : "";
+    }
+
+    private static String getAutomation() {
+        Capabilities capabilities = getCapabilities();
+        Object automation = capabilities == null ? null : capabilities.getCapability("automationName");
+        return automation == null ? null : automation.toString();
+    }
+
+    private static Capabilities getCapabilities() {
+        WebDriver driver = DriverManager.getDriver();
+        return driver instanceof HasCapabilities ? ((HasCapabilities) driver).getCapabilities() : null;
+    }
+}
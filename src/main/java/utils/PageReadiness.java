@@ -0,0 +1,138 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Readiness predicates that page objects hand to Actions.navigateTo().
+ * With the eager/none page-load strategies the browser returns before every subresource
+ * has loaded, so navigation waits for these instead: the page is usable once its anchor
+ * element is visible, the DOM is parsed and no fetch/XHR calls are in flight.
+ */
+public class PageReadiness {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageReadiness.class);
+
+    /**
+     * Counts in-flight fetch/XHR calls in window.__pendingRequests. Safe to run more than once.
+     */
+    private static final String REQUEST_TRACKER_JS =
+            "if (window.__pendingRequests === undefined) {"
+            + "  window.__pendingRequests = 0;"
+            + "  var done = function() { window.__pendingRequests = Math.max(0, window.__pendingRequests - 1); };"
+            + "  if (window.fetch) {"
+            + "    var originalFetch = window.fetch;"
+            + "    window.fetch = function() {"
+            + "      window.__pendingRequests++;"
+            + "      return originalFetch.apply(this, arguments).finally(done);"
+            + "    };"
+            + "  }"
+            + "  var originalSend = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function() {"
+            + "    window.__pendingRequests++;"
+            + "    this.addEventListener('loadend', done);"
+            + "    return originalSend.apply(this, arguments);"
+            + "  };"
+            + "}";
+
+    /**
+     * Gets the page-load strategy configured with web.pageLoadStrategy (normal, eager or none).
+     */
+    public static PageLoadStrategy getPageLoadStrategy() {
+        String strategy = Config.get("web.pageLoadStrategy", "normal");
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy.toLowerCase());
+        if (pageLoadStrategy == null) {
+            throw new IllegalArgumentException("Unknown web.pageLoadStrategy '" + strategy + "' - use normal, eager or none");
+        }
+        return pageLoadStrategy;
+    }
+
+    /**
+     * Injects the request tracker into every document the session opens, so noPendingRequests()
+     * also sees calls made before the page was handed back. Chrome/Edge only; in other browsers
+     * noPendingRequests() cannot count requests and waits for the load event instead.
+     */
+    public static void installRequestTracker(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", REQUEST_TRACKER_JS)));
+        } catch (Exception e) {
+            logger.warn("Failed to install request tracker: {}", e.getMessage());
+        }
+    }
+
+    // ==================== PREDICATES ====================
+
+    /**
+     * The DOM has been parsed (readyState is interactive or complete).
+     */
+    public static ExpectedCondition<Boolean> documentInteractive() {
+        return driver -> !"loading".equals(readyState(driver));
+    }
+
+    /**
+     * Every subresource has loaded (readyState is complete).
+     */
+    public static ExpectedCondition<Boolean> documentComplete() {
+        return driver -> "complete".equals(readyState(driver));
+    }
+
+    /**
+     * The page's anchor element is visible.
+     */
+    public static ExpectedCondition<Boolean> anchorVisible(WebElement anchor) {
+        ExpectedCondition<WebElement> visible = ExpectedConditions.visibilityOf(anchor);
+        return driver -> visible.apply(driver) != null;
+    }
+
+    /**
+     * No fetch/XHR calls are in flight.
+     * Needs the tracker from installRequestTracker(); one injected on the first check would miss
+     * the calls already in flight and report 0. Where the page has no tracker the count is unknown,
+     * so this falls back to documentComplete().
+     */
+    public static ExpectedCondition<Boolean> noPendingRequests() {
+        ExpectedCondition<Boolean> loaded = documentComplete();
+        return driver -> {
+            Object pending = ((JavascriptExecutor) driver).executeScript("return window.__pendingRequests;");
+            if (!(pending instanceof Number)) {
+                return loaded.apply(driver);
+            }
+            return ((Number) pending).intValue() == 0;
+        };
+    }
+
+    /**
+     * All of the given predicates hold, checked in order.
+     */
+    @SafeVarargs
+    public static ExpectedCondition<Boolean> allOf(ExpectedCondition<Boolean>... conditions) {
+        return driver -> {
+            for (ExpectedCondition<Boolean> condition : conditions) {
+                if (!Boolean.TRUE.equals(condition.apply(driver))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static String readyState(WebDriver driver) {
+        return String.valueOf(((JavascriptExecutor) driver).executeScript("return document.readyState;"));
+    }
+}
@@ -0,0 +1,172 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fast, non-throwing presence and absence checks.
+ * Probes call findElements directly (no PageFactory wait, implicit wait forced to zero), so an
+ * element that is not there costs one round-trip instead of a full timeout and an exception.
+ * For "is X shown?" questions whose answer can be no, pages list the mutually exclusive states
+ * the screen can settle in and ask which one it shows: the probe returns as soon as one state
+ * has been seen on two polls probes.settleMillis apart, instead of waiting for X until it times out.
+ */
+public class Probes {
+
+    private static final Logger logger = LoggerFactory.getLogger(Probes.class);
+    private static final long MIN_POLL_MILLIS = 25;
+    private static final long MAX_POLL_MILLIS = 250;
+
+    private static final Duration defaultDeadline = Duration.ofMillis(Long.parseLong(Config.get("probes.deadlineMillis", "500")));
+    private static final long settleMillis = Long.parseLong(Config.get("probes.settleMillis", "200"));
+    // Implicit wait of each session as first read, so it is only queried once per session
+    private static final Map<WebDriver, Duration> implicitWaits = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong probes = new AtomicLong();
+    private static final AtomicLong lookups = new AtomicLong();
+    private static final AtomicLong totalMillis = new AtomicLong();
+    private static final AtomicLong maxMillis = new AtomicLong();
+
+    // ==================== PRESENCE / ABSENCE ====================
+
+    /**
+     * Checks whether an element is present, polling until it appears or probes.deadlineMillis passes.
+     */
+    public static boolean isPresent(By locator) {
+        return isPresent(locator, defaultDeadline);
+    }
+
+    /**
+     * Checks whether an element is present, polling until it appears or the deadline passes.
+     */
+    public static boolean isPresent(By locator, Duration deadline) {
+        return probe("present: " + locator, deadline, driver -> found(driver, locator) ? 0 : -1) == 0;
+    }
+
+    /**
+     * Checks whether an element is absent, polling until it disappears or the deadline passes.
+     */
+    public static boolean isAbsent(By locator, Duration deadline) {
+        return probe("absent: " + locator, deadline, driver -> found(driver, locator) ? -1 : 0) == 0;
+    }
+
+    /**
+     * Finds which of several mutually exclusive screen states is showing once the screen is stable,
+     * e.g. "cart has items" vs "cart is empty". Waits up to the timeout for any state to render.
+     * @param timeout how long to wait for any of the states, e.g. Duration.ofSeconds(Constants.DEFAULT_TIMEOUT)
+     * @param states one locator per state, tried in order on every poll
+     * @return the index of the state showing, or -1 if none rendered in time
+     */
+    public static int whichPresent(Duration timeout, By... states) {
+        int[] settled = {-1};
+        long[] seenAt = {0};
+        int result = probe("which: " + Arrays.toString(states), timeout, driver -> {
+            int current = -1;
+            for (int i = 0; i < states.length && current < 0; i++) {
+                if (found(driver, states[i])) {
+                    current = i;
+                }
+            }
+            long now = System.currentTimeMillis();
+            if (current != settled[0]) {
+                // A different state than last poll: the screen may still be changing
+                settled[0] = current;
+                seenAt[0] = now;
+                return -1;
+            }
+            return current >= 0 && now - seenAt[0] >= settleMillis ? current : -1;
+        });
+        // A state seen only once before the timeout is still the best answer available
+        return result >= 0 ? result : settled[0];
+    }
+
+    // ==================== POLLING ====================
+
+    private interface Poll {
+        /**
+         * Returns a non-negative answer when the probe is done, -1 to poll again.
+         */
+        int apply(WebDriver driver);
+    }
+
+    private static int probe(String description, Duration deadline, Poll poll) {
+        WebDriver driver = DriverManager.getDriver();
+        long start = System.currentTimeMillis();
+        long pollMillis = MIN_POLL_MILLIS;
+        Duration implicitWait = suspendImplicitWait(driver);
+        try {
+            while (true) {
+                int answer = poll.apply(driver);
+                long elapsed = System.currentTimeMillis() - start;
+                if (answer >= 0 || elapsed >= deadline.toMillis()) {
+                    logger.debug("Probe {} -> {} in {} ms", description, answer, elapsed);
+                    return answer;
+                }
+                try {
+                    Thread.sleep(Math.min(pollMillis, deadline.toMillis() - elapsed));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+                pollMillis = Math.min(MAX_POLL_MILLIS, pollMillis * 2);
+            }
+        } finally {
+            restoreImplicitWait(driver, implicitWait);
+            record(System.currentTimeMillis() - start);
+        }
+    }
+
+    private static boolean found(WebDriver driver, By locator) {
+        lookups.incrementAndGet();
+        try {
+            return !driver.findElements(locator).isEmpty();
+        } catch (WebDriverException e) {
+            logger.debug("Probe lookup of {} failed: {}", locator, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Sets the session's implicit wait to zero for the probe, if it has one.
+     * @return the implicit wait to restore afterwards
+     */
+    private static Duration suspendImplicitWait(WebDriver driver) {
+        Duration implicitWait = implicitWaits.computeIfAbsent(driver, d -> d.manage().timeouts().getImplicitWaitTimeout());
+        if (!implicitWait.isZero()) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        return implicitWait;
+    }
+
+    private static void restoreImplicitWait(WebDriver driver, Duration implicitWait) {
+        if (!implicitWait.isZero()) {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    // ==================== REPORT ====================
+
+    private static void record(long millis) {
+        probes.incrementAndGet();
+        totalMillis.addAndGet(millis);
+        maxMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * Gets the number of probes and how long they took.
+     */
+    public static String getReport() {
+        long count = probes.get();
+        return String.format("Probes: %d probes, %d lookups, avg=%dms, max=%dms",
+                count, lookups.get(), count == 0 ? 0 : totalMillis.get() / count, maxMillis.get());
+    }
+}
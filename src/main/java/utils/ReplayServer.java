@@ -0,0 +1,222 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process server that replays a SessionRecorder file.
+ * Point a driver at getUrl() and every command gets the response recorded for the same
+ * method, path and payload, in recorded order, so page objects run in milliseconds with no device.
+ * When a command was recorded more often than it is replayed the last response is repeated,
+ * which keeps polling waits deterministic.
+ * Each recorded session is replayed apart: the n-th session opened gets the n-th session recorded,
+ * and sessions opened beyond the recorded ones share the last. Recordings made before lines carried
+ * a session number replay as one session.
+ */
+public class ReplayServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayServer.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final List<Map<CommandKey, Deque<RecordedResponse>>> recordings = new ArrayList<>();
+    private final Map<String, Map<CommandKey, Deque<RecordedResponse>>> recordingsBySession = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCounter = new AtomicInteger();
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger missed = new AtomicInteger();
+
+    /**
+     * Loads a recording and starts serving it on a free local port.
+     */
+    public ReplayServer(Path recording) throws IOException {
+        List<String> lines = Files.readAllLines(recording, StandardCharsets.UTF_8);
+        Map<Integer, Map<CommandKey, Deque<RecordedResponse>>> sessions = new LinkedHashMap<>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode entry = mapper.readTree(line);
+            CommandKey key = new CommandKey(entry.path("method").asText(), entry.path("path").asText(),
+                    bodyOf(entry.path("method").asText(), entry.path("path").asText(), entry.get("body")));
+            sessions.computeIfAbsent(entry.path("session").asInt(0), s -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new ArrayDeque<>())
+                    .add(new RecordedResponse(entry.path("status").asInt(200), entry.get("response")));
+        }
+        recordings.addAll(sessions.values());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Replaying {} recorded commands of {} session(s) from {} at {}",
+                lines.size(), recordings.size(), recording, getUrl());
+    }
+
+    /**
+     * Gets the base URL to use as the driver's server URL.
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Gets the number of commands answered from the recording.
+     */
+    public int getServedCount() {
+        return served.get();
+    }
+
+    /**
+     * Gets the number of commands that had no recorded response.
+     */
+    public int getMissedCount() {
+        return missed.get();
+    }
+
+    public void stop() {
+        server.stop(0);
+        logger.info("Replay server stopped - served={}, missed={}", served.get(), missed.get());
+    }
+
+    // ==================== REQUEST HANDLING ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = SessionRecorder.getCommandPath(exchange.getRequestURI().getPath());
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        // Every replayed session uses its own id; recordings use the placeholder
+        String sessionId = getSessionId(path);
+        String normalizedPath = sessionId == null ? path : path.replace(sessionId, SessionRecorder.SESSION_PLACEHOLDER);
+        String normalizedBody = sessionId == null ? body : body.replace(sessionId, SessionRecorder.SESSION_PLACEHOLDER);
+
+        int newSession = method.equals("POST") && normalizedPath.equals("/session") ? sessionCounter.incrementAndGet() : 0;
+        Map<CommandKey, Deque<RecordedResponse>> sessionRecording = newSession > 0
+                ? recordingFor(newSession)
+                : sessionId == null ? null : recordingsBySession.get(sessionId);
+        RecordedResponse recorded = next(new CommandKey(method, normalizedPath,
+                bodyOf(method, normalizedPath, SessionRecorder.parse(normalizedBody))), sessionRecording);
+        int status;
+        String response;
+        if (recorded == null) {
+            missed.incrementAndGet();
+            logger.warn("No recorded response for {} {} {}", method, normalizedPath, normalizedBody);
+            status = 404;
+            response = mapper.writeValueAsString(Map.of("value", Map.of("error", "unknown command",
+                    "message", "Not in recording: " + method + " " + normalizedPath, "stacktrace", "")));
+        } else {
+            served.incrementAndGet();
+            status = recorded.status;
+            response = isEmpty(recorded.response) ? "" : mapper.writeValueAsString(recorded.response);
+            if (newSession > 0) {
+                sessionId = "replay-session-" + newSession;
+                recordingsBySession.put(sessionId, sessionRecording);
+            }
+            if (sessionId != null) {
+                response = response.replace(SessionRecorder.SESSION_PLACEHOLDER, sessionId);
+            }
+        }
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Gets the recording of the n-th session opened, counting from 1.
+     */
+    private Map<CommandKey, Deque<RecordedResponse>> recordingFor(int session) {
+        return recordings.isEmpty() ? Map.of() : recordings.get(Math.min(session, recordings.size()) - 1);
+    }
+
+    /**
+     * Takes the next response for a command from the session's recording,
+     * or from the first recording that has one when the command belongs to no replayed session.
+     */
+    private synchronized RecordedResponse next(CommandKey key, Map<CommandKey, Deque<RecordedResponse>> recording) {
+        for (Map<CommandKey, Deque<RecordedResponse>> candidate : recording != null ? List.of(recording) : recordings) {
+            Deque<RecordedResponse> queue = candidate.get(key);
+            if (queue != null && !queue.isEmpty()) {
+                return queue.size() > 1 ? queue.poll() : queue.peek();
+            }
+        }
+        return null;
+    }
+
+    private static String getSessionId(String path) {
+        String[] parts = path.split("/");
+        return parts.length > 2 && parts[1].equals("session") ? parts[2] : null;
+    }
+
+    /**
+     * New-session payloads hold machine-specific values (app path, ports), so they are not matched.
+     */
+    private static JsonNode bodyOf(String method, String path, JsonNode body) {
+        return isEmpty(body) || method.equals("POST") && path.equals("/session") ? null : body;
+    }
+
+    private static boolean isEmpty(JsonNode node) {
+        return node == null || node.isNull() || node.isMissingNode();
+    }
+
+    // ==================== RECORDED DATA ====================
+
+    private static final class CommandKey {
+        private final String method;
+        private final String path;
+        private final JsonNode body;
+
+        CommandKey(String method, String path, JsonNode body) {
+            this.method = method;
+            this.path = path;
+            this.body = body;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof CommandKey)) {
+                return false;
+            }
+            CommandKey key = (CommandKey) other;
+            return method.equals(key.method) && path.equals(key.path) && Objects.equals(body, key.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, path, body);
+        }
+    }
+
+    private static final class RecordedResponse {
+        private final int status;
+        private final JsonNode response;
+
+        RecordedResponse(int status, JsonNode response) {
+            this.status = status;
+            this.response = response;
+        }
+    }
+}
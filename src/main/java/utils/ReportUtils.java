@@ -78,9 +78,14 @@ public class ReportUtils {
      */
     public static void step(String stepDescription, Runnable action) {
         logger.info("Step: {}", stepDescription);
-        Allure.step(stepDescription, () -> {
-            action.run();
-        });
+        String enclosingStep = CommandMetrics.enterStep(stepDescription);
+        try {
+            Allure.step(stepDescription, () -> {
+                action.run();
+            });
+        } finally {
+            CommandMetrics.exitStep(enclosingStep);
+        }
     }
 
     /**
@@ -0,0 +1,233 @@
+package utils;
+
+import io.appium.java_client.HasSettings;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * One copy of an Appium screen's element tree, queried locally.
+ * capture() fetches the page source once; any number of XPath, accessibility id, id and class-name
+ * lookups are then answered from memory. Locators a page source cannot evaluate (UiAutomator,
+ * predicates, class chains) are looked up live, so answers are always complete.
+ * On iOS, snapshot.excludedAttributes trims the source XCUITest has to build (mobile: source).
+ * snapshot.maxDepth caps how deep XCUITest and UiAutomator2 walk the tree (their snapshotMaxDepth setting).
+ */
+public class ScreenSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreenSnapshot.class);
+    private static final String excludedAttributes = Config.get("snapshot.excludedAttributes", "");
+    private static final Set<WebDriver> depthLimited = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private final WebDriver driver;
+    private final Document document;
+    private final boolean android;
+
+    private ScreenSnapshot(WebDriver driver, Document document, boolean android) {
+        this.driver = driver;
+        this.document = document;
+        this.android = android;
+    }
+
+    // ==================== CAPTURE ====================
+
+    /**
+     * Captures the current screen of the test's Appium session.
+     */
+    public static ScreenSnapshot capture() {
+        return capture(DriverManager.getDriver());
+    }
+
+    /**
+     * Captures the current screen of an Appium session in one remote call.
+     */
+    public static ScreenSnapshot capture(WebDriver driver) {
+        if (!(driver instanceof AndroidDriver || driver instanceof IOSDriver)) {
+            throw new IllegalStateException("Screen snapshots need an Appium session, not " + driver.getClass().getSimpleName());
+        }
+        boolean android = driver instanceof AndroidDriver;
+        return new ScreenSnapshot(driver, ElementStates.parse(getSource(driver, android)), android);
+    }
+
+    /**
+     * Captures the screen once any of the locators is present, e.g. the markers of a loaded screen.
+     * A screen that is already showing costs a single remote call.
+     * @throws TimeoutException if none shows up within Constants.DEFAULT_TIMEOUT
+     */
+    public static ScreenSnapshot captureWhenPresent(By... anyOf) {
+        return WaitEngine.until("snapshot with any of " + Arrays.toString(anyOf), driver -> {
+            ScreenSnapshot snapshot = capture(driver);
+            return Arrays.stream(anyOf).anyMatch(snapshot::isPresent) ? snapshot : null;
+        }, Constants.DEFAULT_TIMEOUT);
+    }
+
+    private static String getSource(WebDriver driver, boolean android) {
+        limitDepth(driver);
+        if (!android && !excludedAttributes.isEmpty()) {
+            return (String) ((JavascriptExecutor) driver).executeScript("mobile: source",
+                    Map.of("format", "xml", "excludedAttributes", excludedAttributes));
+        }
+        return driver.getPageSource();
+    }
+
+    /**
+     * Applies snapshot.maxDepth once per session. The setting is session-wide, so elements nested
+     * deeper than that cannot be found by any locator either.
+     */
+    private static void limitDepth(WebDriver driver) {
+        String maxDepth = Config.get("snapshot.maxDepth", "");
+        if (maxDepth.isEmpty() || !depthLimited.add(driver)) {
+            return;
+        }
+        try {
+            ((HasSettings) driver).setSetting("snapshotMaxDepth", Integer.parseInt(maxDepth));
+        } catch (WebDriverException e) {
+            logger.warn("snapshot.maxDepth not applied: {}", e.getMessage());
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Checks whether any element matches the locator.
+     */
+    public boolean isPresent(By locator) {
+        return get(locator).isPresent();
+    }
+
+    /**
+     * Gets the state of the first element matching the locator; absent elements report isPresent() == false.
+     */
+    public ElementStates.ElementState get(By locator) {
+        List<ElementStates.ElementState> states = getAll(locator);
+        return states.isEmpty() ? ElementStates.ElementState.ABSENT : states.get(0);
+    }
+
+    /**
+     * Gets the state of every element matching the locator, in screen order.
+     */
+    public List<ElementStates.ElementState> getAll(By locator) {
+        NodeList nodes = evaluate(locator);
+        if (nodes == null) {
+            List<ElementStates.ElementState> states = new ArrayList<>();
+            for (WebElement element : driver.findElements(locator)) {
+                states.add(ElementStates.readLive(element));
+            }
+            return states;
+        }
+        List<ElementStates.ElementState> states = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element) {
+                states.add(ElementStates.toState((Element) nodes.item(i), android));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Gets the text of the first element matching the locator, or null if there is none.
+     */
+    public String getText(By locator) {
+        return get(locator).getText();
+    }
+
+    /**
+     * Gets the text of every element matching the locator, in screen order.
+     */
+    public List<String> getTexts(By locator) {
+        return getAll(locator).stream().map(ElementStates.ElementState::getText).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the text of each child locator inside every element matching the container locator,
+     * one row per container in screen order, e.g. the name and price of each list item.
+     * A child a container does not show (scrolled out of view) is null.
+     */
+    public List<List<String>> getTextsWithin(By container, By... children) {
+        NodeList containers = evaluate(container);
+        List<String> childXPaths = new ArrayList<>();
+        for (By child : children) {
+            String xpath = ElementStates.toXPath(child, android);
+            childXPaths.add(xpath != null && xpath.startsWith("//") ? "." + xpath : null);
+        }
+        List<List<String>> rows = new ArrayList<>();
+        if (containers == null || childXPaths.contains(null)) {
+            for (WebElement element : driver.findElements(container)) {
+                List<String> row = new ArrayList<>();
+                for (By child : children) {
+                    List<WebElement> found = element.findElements(child);
+                    row.add(found.isEmpty() ? null : found.get(0).getText());
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+        try {
+            for (int i = 0; i < containers.getLength(); i++) {
+                List<String> row = new ArrayList<>();
+                for (String xpath : childXPaths) {
+                    NodeList found = (NodeList) XPathFactory.newInstance().newXPath()
+                            .evaluate(xpath, containers.item(i), XPathConstants.NODESET);
+                    row.add(found.getLength() > 0 && found.item(0) instanceof Element
+                            ? ElementStates.toState((Element) found.item(0), android).getText() : null);
+                }
+                rows.add(row);
+            }
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Cannot read " + Arrays.toString(children) + " within " + container, e);
+        }
+        return rows;
+    }
+
+    /**
+     * Counts the elements matching the locator.
+     */
+    public int count(By locator) {
+        return getAll(locator).size();
+    }
+
+    /**
+     * Checks whether the snapshot answers a locator itself, rather than looking it up live.
+     */
+    boolean canEvaluate(By locator) {
+        return evaluate(locator) != null;
+    }
+
+    /**
+     * Evaluates a locator against the snapshot, or returns null if it has to be looked up live.
+     */
+    private NodeList evaluate(By locator) {
+        String xpath = document == null ? null : ElementStates.toXPath(locator, android);
+        if (xpath == null) {
+            return null;
+        }
+        try {
+            return (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, document, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            logger.debug("Snapshot cannot evaluate {}: {}", locator, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * TestNG listener that starts opening driver sessions while the suite is still being built.
+ * Only warms the platforms the suite actually contains, so API/DB-only suites open nothing.
+ */
+public class SessionPreWarmer implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionPreWarmer.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!Boolean.parseBoolean(Config.get("session.prewarm", "true"))) {
+            return;
+        }
+        int count = Integer.parseInt(Config.get("session.prewarm.count", Config.get("thread.count", "1")));
+
+        boolean hasWeb = false;
+        boolean hasMobile = false;
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    Class<?> testClass = loadClass(xmlClass.getName());
+                    hasWeb |= testClass != null && base.web.BaseTest.class.isAssignableFrom(testClass);
+                    hasMobile |= testClass != null && base.mobile.BaseTest.class.isAssignableFrom(testClass);
+                }
+            }
+        }
+
+        if (hasWeb) {
+            base.web.BaseTest.prewarm(count);
+        }
+        if (hasMobile) {
+            base.mobile.BaseTest.prewarm(count);
+        }
+    }
+
+    private Class<?> loadClass(String name) {
+        try {
+            return Class.forName(name, false, SessionPreWarmer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            logger.debug("Could not load test class {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
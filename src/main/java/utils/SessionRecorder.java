@@ -0,0 +1,197 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records every WebDriver command and response of a session into a JSON-lines file.
+ * Wraps the HTTP client factory a driver is created with, so the new-session handshake is
+ * recorded too; ReplayServer serves the file back so page objects and tests can re-run without a device.
+ * Session ids are replaced with a placeholder so a recording replays into any new session.
+ * One recorder records one session. A file holds one run: the first recorder of the run truncates it,
+ * and every line carries its session's number, so sessions that ran in parallel replay apart.
+ */
+public class SessionRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionRecorder.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Placeholder for the session id in recorded paths and payloads.
+     */
+    public static final String SESSION_PLACEHOLDER = "{session}";
+
+    /**
+     * Sessions recorded per file in this run; a file is truncated when its first session starts.
+     */
+    private static final Map<Path, AtomicInteger> sessionCounts = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final int session;
+    private volatile String sessionId;
+    private BufferedWriter writer;
+
+    /**
+     * Creates a recorder for the next session of the run, emptying the file first if it is the run's first.
+     */
+    public SessionRecorder(Path file) {
+        this.file = file;
+        this.session = sessionCounts.computeIfAbsent(file.toAbsolutePath().normalize(), SessionRecorder::startRun)
+                .incrementAndGet();
+        logger.info("Recording WebDriver commands of session {} to {}", session, file.toAbsolutePath());
+    }
+
+    private static AtomicInteger startRun(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, new byte[0]);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create recording file " + file, e);
+        }
+        return new AtomicInteger();
+    }
+
+    /**
+     * Wraps an HTTP client factory so every client it creates records its traffic.
+     * Pass the result to the driver constructor, e.g. new AndroidDriver(url, recorder.wrap(factory), caps).
+     */
+    public HttpClient.Factory wrap(HttpClient.Factory delegate) {
+        return new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                return new RecordingClient(delegate.createClient(config));
+            }
+
+            @Override
+            public void cleanupIdleClients() {
+                delegate.cleanupIdleClients();
+            }
+        };
+    }
+
+    private class RecordingClient implements HttpClient {
+        private final HttpClient client;
+
+        RecordingClient(HttpClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            String requestBody = Contents.utf8String(request.getContent());
+            request.setContent(Contents.utf8String(requestBody));
+
+            HttpResponse response = client.execute(request);
+            String responseBody = Contents.utf8String(response.getContent());
+            response.setContent(Contents.utf8String(responseBody));
+
+            record(request, requestBody, response.getStatus(), responseBody);
+            return response;
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return client.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            client.close();
+        }
+    }
+
+    // ==================== RECORDING ====================
+
+    private void record(HttpRequest request, String requestBody, int status, String responseBody) {
+        String path = getCommandPath(request.getUri());
+        if (request.getMethod().name().equals("POST") && path.equals("/session")) {
+            captureSessionId(responseBody);
+        }
+        try {
+            ObjectNode entry = mapper.createObjectNode();
+            entry.put("session", session);
+            entry.put("method", request.getMethod().name());
+            entry.put("path", normalize(path));
+            entry.set("body", parse(normalize(requestBody)));
+            entry.put("status", status);
+            entry.set("response", parse(normalize(responseBody)));
+            // The session is over once it is deleted, so the file is not held open until the JVM exits
+            boolean quit = request.getMethod().name().equals("DELETE") && normalize(path).equals("/session/" + SESSION_PLACEHOLDER);
+            write(mapper.writeValueAsString(entry), quit);
+        } catch (IOException e) {
+            logger.warn("Failed to record {} {}: {}", request.getMethod(), path, e.getMessage());
+        }
+    }
+
+    private void write(String line, boolean close) throws IOException {
+        // Sessions running in parallel share one recording file, so whole lines go out under one lock
+        synchronized (SessionRecorder.class) {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+            if (close) {
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+
+    private void captureSessionId(String responseBody) {
+        try {
+            JsonNode value = mapper.readTree(responseBody).path("value");
+            String id = value.path("sessionId").asText(null);
+            if (id != null) {
+                sessionId = id;
+            }
+        } catch (IOException e) {
+            logger.debug("Could not read session id from new session response: {}", e.getMessage());
+        }
+    }
+
+    private String normalize(String text) {
+        String id = sessionId;
+        return id == null || text == null ? text : text.replace(id, SESSION_PLACEHOLDER);
+    }
+
+    /**
+     * Gets the command path from a request URI, dropping any base path in front of /session.
+     */
+    static String getCommandPath(String uri) {
+        int index = uri.indexOf("/session");
+        String path = index >= 0 ? uri.substring(index) : uri;
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+
+    /**
+     * Parses a JSON payload, or returns null for an empty one.
+     */
+    static JsonNode parse(String text) throws IOException {
+        return text == null || text.isBlank() ? null : mapper.readTree(text);
+    }
+}
@@ -0,0 +1,136 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Opens driver sessions concurrently in the background at suite start.
+ * Tests take a warmed session when one is ready and only block while
+ * warm-ups are still in flight.
+ */
+public class SessionWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionWarmer.class);
+
+    private final String name;
+    private final Supplier<WebDriver> factory;
+    private final BlockingQueue<WebDriver> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong firstSessionMillis = new AtomicLong(-1);
+    private volatile long startedAt;
+    private volatile long allSessionsMillis = -1;
+    private int requested;
+
+    /**
+     * Creates a warmer for one kind of session.
+     * @param name label used in logs (e.g. "web", "mobile")
+     * @param factory opens a new session
+     */
+    public SessionWarmer(String name, Supplier<WebDriver> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * Starts opening the given number of sessions concurrently and returns immediately.
+     */
+    public synchronized void start(int count) {
+        if (count <= 0) {
+            return;
+        }
+        requested += count;
+        startedAt = System.currentTimeMillis();
+        inFlight.addAndGet(count);
+        logger.info("Pre-warming {} {} session(s) in the background", count, name);
+
+        ExecutorService executor = Executors.newFixedThreadPool(count, runnable -> {
+            Thread thread = new Thread(runnable, name + "-session-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < count; i++) {
+            executor.submit(this::warmOne);
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Takes a warmed session.
+     * Blocks while warm-ups are still in flight; returns null once none can arrive.
+     */
+    public WebDriver take() {
+        try {
+            while (true) {
+                WebDriver driver = ready.poll();
+                if (driver != null) {
+                    return driver;
+                }
+                if (inFlight.get() == 0) {
+                    return ready.poll();
+                }
+                driver = ready.poll(200, TimeUnit.MILLISECONDS);
+                if (driver != null) {
+                    return driver;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Checks if warm-ups are still running or warmed sessions are waiting to be taken.
+     */
+    public boolean hasPending() {
+        return inFlight.get() > 0 || !ready.isEmpty();
+    }
+
+    /**
+     * Removes and returns every warmed session nobody took, so it can be quit.
+     */
+    public List<WebDriver> drain() {
+        List<WebDriver> leftovers = new ArrayList<>();
+        ready.drainTo(leftovers);
+        return leftovers;
+    }
+
+    /**
+     * Gets a one-line summary of the warm-up timings.
+     */
+    public String getReport() {
+        return String.format("%s warm-up: requested=%d, failed=%d, timeToFirstSessionMs=%d, timeToAllSessionsMs=%d",
+                name, requested, failed.get(), firstSessionMillis.get(), allSessionsMillis);
+    }
+
+    private void warmOne() {
+        try {
+            WebDriver driver = factory.get();
+            if (driver != null) {
+                firstSessionMillis.compareAndSet(-1, System.currentTimeMillis() - startedAt);
+                ready.offer(driver);
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.warn("Failed to pre-warm {} session: {}", name, e.getMessage());
+        } finally {
+            if (inFlight.decrementAndGet() == 0) {
+                allSessionsMillis = System.currentTimeMillis() - startedAt;
+                logger.info(getReport());
+            }
+        }
+    }
+}
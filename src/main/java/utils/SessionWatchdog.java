@@ -0,0 +1,191 @@
+package utils;
+
+import io.appium.java_client.remote.SupportsContextSwitching;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background health checks for idle driver sessions.
+ * Sessions waiting between tests are pinged with a cheap command on a schedule; a session
+ * whose ping fails or takes longer than the latency threshold is flagged as hung, and the
+ * pool replaces it on the next lease instead of handing it to a test.
+ * Pings run on their own threads with a timeout, so a hung session never blocks a test.
+ */
+public class SessionWatchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionWatchdog.class);
+
+    private final String name;
+    private final boolean enabled = Boolean.parseBoolean(Config.get("session.watchdog.enabled", "true"));
+    private final long intervalMillis = Long.parseLong(Config.get("session.watchdog.interval", "30")) * 1000;
+    private final long latencyMillis = Long.parseLong(Config.get("session.watchdog.latencyMs", "5000"));
+    // Last time each idle session answered; 0 = not known to answer, pinged before the next lease; -1 = hung
+    private final Map<WebDriver, Long> lastHealthyPing = new ConcurrentHashMap<>();
+    private final ExecutorService pingExecutor;
+    private ScheduledExecutorService scheduler;
+
+    // ==================== METRICS ====================
+
+    private final AtomicLong pings = new AtomicLong();
+    private final AtomicLong pingMillis = new AtomicLong();
+    private final AtomicLong slowPings = new AtomicLong();
+    private final AtomicLong failedPings = new AtomicLong();
+    private final AtomicLong recycled = new AtomicLong();
+
+    /**
+     * Creates a watchdog for one kind of session.
+     * @param name label used in logs (e.g. "web", "mobile")
+     */
+    public SessionWatchdog(String name) {
+        this.name = name;
+        this.pingExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-session-ping");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts watching a session that is now idle between tests.
+     * @param answered true if the session just answered commands (e.g. its test passed); otherwise
+     *                 it may have hung or broken during the test and is pinged before its next lease
+     */
+    public void watch(WebDriver driver, boolean answered) {
+        if (!enabled || driver == null) {
+            return;
+        }
+        lastHealthyPing.put(driver, answered ? System.currentTimeMillis() : 0L);
+        startScheduler();
+    }
+
+    /**
+     * Stops watching a session that is about to be leased and checks it is still usable.
+     * A session that has not answered within the last interval, or failed its test, gets one timed ping now.
+     * @return false if the session is hung and must be replaced
+     */
+    public boolean checkOut(WebDriver driver) {
+        if (!enabled) {
+            return ping(driver);
+        }
+        Long lastPing = lastHealthyPing.remove(driver);
+        boolean healthy = lastPing != null && lastPing >= 0;
+        if (healthy && System.currentTimeMillis() - lastPing > intervalMillis) {
+            healthy = ping(driver);
+        }
+        if (!healthy) {
+            recycled.incrementAndGet();
+            logger.warn("{} session is not responding - replacing it", name);
+        }
+        return healthy;
+    }
+
+    /**
+     * Quits a hung session in the background, since quit() may block as long as the session does.
+     */
+    public void quitInBackground(WebDriver driver) {
+        lastHealthyPing.remove(driver);
+        pingExecutor.submit(() -> {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.debug("Failed to quit hung {} session: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Stops the scheduled pings. Called once at the end of the suite.
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        lastHealthyPing.clear();
+    }
+
+    /**
+     * Gets a one-line summary of the watchdog metrics.
+     */
+    public String getReport() {
+        long avgPing = pings.get() == 0 ? 0 : pingMillis.get() / pings.get();
+        return String.format("%s watchdog: pings=%d, avgPingMs=%d, slowPings=%d, failedPings=%d, recycled=%d",
+                name, pings.get(), avgPing, slowPings.get(), failedPings.get(), recycled.get());
+    }
+
+    // ==================== PINGING ====================
+
+    private synchronized void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-session-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pingIdleSessions, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("{} session watchdog started: interval={}s, latencyThreshold={}ms", name, intervalMillis / 1000, latencyMillis);
+    }
+
+    private void pingIdleSessions() {
+        for (WebDriver driver : lastHealthyPing.keySet()) {
+            Long lastPing = lastHealthyPing.get(driver);
+            if (lastPing == null || lastPing < 0) {
+                continue;
+            }
+            if (ping(driver)) {
+                lastHealthyPing.replace(driver, System.currentTimeMillis());
+            } else {
+                // Keep it in the map, flagged, so the next lease replaces it
+                lastHealthyPing.replace(driver, -1L);
+            }
+        }
+    }
+
+    /**
+     * Sends a cheap command and waits at most the latency threshold for the answer.
+     */
+    private boolean ping(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        Future<?> future = pingExecutor.submit(() -> {
+            if (driver instanceof SupportsContextSwitching) {
+                ((SupportsContextSwitching) driver).getContext();
+            } else {
+                driver.getWindowHandle();
+            }
+        });
+        try {
+            future.get(latencyMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            slowPings.incrementAndGet();
+            logger.warn("{} session took longer than {} ms to answer a ping - flagging it as hung", name, latencyMillis);
+            return false;
+        } catch (InterruptedException e) {
+            // Not known to answer, so not handed out; the caller sees the interrupt
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            failedPings.incrementAndGet();
+            logger.warn("{} session failed a ping: {}", name, e.getMessage());
+            return false;
+        } finally {
+            pings.incrementAndGet();
+            pingMillis.addAndGet(System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that applies parallel execution settings from configuration.
+ * Lets any suite file run in parallel without editing it:
+ * mvn test -Dparallel.mode=methods -Dthread.count=4
+ * With -Dexecution.threads=virtual (Java 21+) tests run on virtual threads.
+ */
+public class SuiteConfigurator implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteConfigurator.class);
+
+    public SuiteConfigurator() {
+        // TestNG reads its executor factory right after creating the suite's listeners,
+        // so it has to be swapped here rather than in alter()
+        if (TestThreads.useVirtualThreads()) {
+            TestThreadExecutorFactory.install();
+            logger.info("Tests will run on virtual threads");
+        }
+    }
+
+    /**
+     * Overrides parallel and thread-count only where parallel.mode / thread.count are set,
+     * so a suite file's own settings apply otherwise.
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallel = Config.get("parallel.mode", null);
+        String threadCount = Config.get("thread.count", null);
+
+        for (XmlSuite suite : suites) {
+            if (parallel != null) {
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallel));
+            }
+            if (threadCount != null) {
+                suite.setThreadCount(Integer.parseInt(threadCount));
+            }
+            logger.info("Suite '{}' configured with parallel={} and thread-count={}",
+                    suite.getName(), suite.getParallel(), suite.getThreadCount());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -14,8 +16,9 @@ import java.io.File;
 /**
  * TestNG Listener for Allure reporting.
  * Automatically captures screenshots on failure and logs test status.
+ * At the end of the suite it logs the run-wide reports of the shared utilities once.
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
 
     private static final Logger logger = LoggerFactory.getLogger(TestListener.class);
     private static final String SUITE_NAME = "Automation Test Suite";
@@ -62,11 +65,26 @@ public class TestListener implements ITestListener {
                 context.getPassedTests().size(),
                 context.getFailedTests().size(),
                 context.getSkippedTests().size());
+        CommandMetrics.writeSummary();
+        LocatorProfiler.writeReport();
+    }
+
+    /**
+     * Logs the utility reports once per suite, after every session pool has shut down.
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        logger.info(WaitEngine.getReport());
+        logger.info(ElementCache.getReport());
+        logger.info(Probes.getReport());
+        logger.info(Gestures.getReport());
+        logger.info(FastInput.getReport());
     }
 
     @Override
     public void onTestStart(ITestResult result) {
         logger.info("---------- Test Started: {} ----------", result.getName());
+        CommandMetrics.startTest(result.getMethod().getQualifiedName());
         Allure.getLifecycle().updateTestCase(testResult ->
                 testResult.setName(result.getMethod().getMethodName()));
     }
@@ -74,6 +92,7 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("---------- Test PASSED: {} ----------", result.getName());
+        attachCommandMetrics();
     }
 
     @Override
@@ -90,6 +109,7 @@ public class TestListener implements ITestListener {
 
         // Attach exception details
         ReportUtils.attachText("Exception", result.getThrowable().toString());
+        attachCommandMetrics();
     }
 
     @Override
@@ -98,6 +118,7 @@ public class TestListener implements ITestListener {
         if (result.getThrowable() != null) {
             logger.warn("Skip reason: {}", result.getThrowable().getMessage());
         }
+        attachCommandMetrics();
     }
 
     @Override
@@ -106,20 +127,25 @@ public class TestListener implements ITestListener {
     }
 
     /**
-     * Gets the WebDriver from the test class.
+     * Attaches the WebDriver commands the test sent, if it sent any.
+     */
+    private void attachCommandMetrics() {
+        String commands = CommandMetrics.finishTest();
+        if (commands != null && !commands.startsWith("0 commands")) {
+            ReportUtils.attachText("WebDriver Commands", commands);
+        }
+    }
+
+    /**
+     * Gets the WebDriver owned by the thread running the test.
      */
     private WebDriver getDriverFromTestClass(ITestResult result) {
         try {
             Object testClass = result.getInstance();
-            
-            // Try to get driver from web BaseTest
-            if (testClass instanceof base.web.BaseTest) {
-                return base.web.BaseTest.driver;
-            }
-            
-            // Try to get driver from mobile BaseTest
-            if (testClass instanceof base.mobile.BaseTest) {
-                return base.mobile.BaseTest.driver;
+
+            // Only UI test classes own a driver
+            if (testClass instanceof base.web.BaseTest || testClass instanceof base.mobile.BaseTest) {
+                return DriverManager.hasDriver() ? DriverManager.getDriver() : null;
             }
         } catch (Exception e) {
             logger.error("Failed to get driver from test class: {}", e.getMessage());
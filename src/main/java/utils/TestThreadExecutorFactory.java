@@ -0,0 +1,87 @@
+package utils;
+
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.TestNG;
+import org.testng.internal.thread.graph.GraphThreadPoolExecutor;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs suites and test methods on TestThreads,
+ * i.e. on virtual threads when execution.threads=virtual.
+ * Programmatic runs register it with TestNG.setExecutorFactoryClass(); surefire has no option
+ * for it, so suite file runs get it from SuiteConfigurator through install(), and only when
+ * execution.threads=virtual asks for it.
+ * The two TestNG internals this needs (GraphThreadPoolExecutor and TestNG.getDefault()) are kept
+ * in this class and tied to the TestNG version pinned in pom.xml.
+ */
+public class TestThreadExecutorFactory implements IExecutorFactory {
+
+    private final boolean virtual;
+
+    public TestThreadExecutorFactory() {
+        this(TestThreads.useVirtualThreads());
+    }
+
+    /**
+     * @param virtual true to run on virtual threads whatever execution.threads says
+     */
+    public TestThreadExecutorFactory(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    /**
+     * Makes the running TestNG use this factory. Only takes effect before TestNG starts the suites,
+     * i.e. from a listener's constructor.
+     * @throws IllegalStateException if it cannot be installed, rather than silently running on platform threads
+     */
+    @SuppressWarnings("deprecation")
+    static void install() {
+        try {
+            Class.forName("org.testng.internal.thread.graph.GraphThreadPoolExecutor");
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("execution.threads=virtual needs the TestNG version pinned in pom.xml", e);
+        }
+        TestNG testng = TestNG.getDefault();
+        if (testng == null) {
+            throw new IllegalStateException("execution.threads=virtual is set but no running TestNG was found"
+                    + " - register TestThreadExecutorFactory with TestNG.setExecutorFactoryClass() instead");
+        }
+        testng.setExecutorFactory(new TestThreadExecutorFactory());
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+            IThreadWorkerFactory<ISuite> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return newExecutor("testng-suite", name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+            IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ITestNGMethod> comparator) {
+        return newExecutor("testng-worker", name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    /**
+     * Builds TestNG's own graph executor, as its default factory does, with threads from TestThreads.
+     */
+    private <T> ITestNGThreadPoolExecutor newExecutor(String threadName, String name, IDynamicGraph<T> graph,
+            IThreadWorkerFactory<T> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<T> comparator) {
+        GraphThreadPoolExecutor<T> executor = new GraphThreadPoolExecutor<>(name, graph, factory,
+                corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        executor.setThreadFactory(TestThreads.newThreadFactory(threadName, virtual));
+        return executor;
+    }
+}
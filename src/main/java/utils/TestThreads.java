@@ -0,0 +1,81 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads tests run on.
+ * With execution.threads=virtual each test runs on a virtual thread, so waits in Actions and
+ * ApiUtils calls park instead of holding a platform thread, and thread.count can go into the
+ * hundreds. Virtual threads need Java 21+; on older runtimes platform threads are used instead.
+ */
+public class TestThreads {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestThreads.class);
+    private static final int VIRTUAL_THREADS_MIN_VERSION = 21;
+    private static final boolean virtual = resolveVirtualThreads();
+
+    /**
+     * Checks if tests run on virtual threads: requested in config and supported by the JVM.
+     */
+    public static boolean useVirtualThreads() {
+        return virtual;
+    }
+
+    /**
+     * Checks if the running JVM has virtual threads.
+     */
+    public static boolean supportsVirtualThreads() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_MIN_VERSION;
+    }
+
+    private static boolean resolveVirtualThreads() {
+        if (!"virtual".equalsIgnoreCase(Config.get("execution.threads", "platform"))) {
+            return false;
+        }
+        if (!supportsVirtualThreads()) {
+            logger.warn("execution.threads=virtual needs Java {}+ (running {}) - using platform threads",
+                    VIRTUAL_THREADS_MIN_VERSION, Runtime.version().feature());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets a factory for named test threads, virtual when useVirtualThreads() allows it.
+     * @param name thread name prefix, e.g. "testng-worker"
+     */
+    public static ThreadFactory newThreadFactory(String name) {
+        return newThreadFactory(name, useVirtualThreads());
+    }
+
+    /**
+     * Gets a factory for named virtual or platform threads, whatever execution.threads says.
+     * @param virtual true for virtual threads, which need supportsVirtualThreads()
+     */
+    public static ThreadFactory newThreadFactory(String name, boolean virtual) {
+        if (virtual) {
+            return newVirtualThreadFactory(name);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + counter.getAndIncrement());
+    }
+
+    /**
+     * Builds Thread.ofVirtual().name(name + "-", 0).factory() reflectively, so the framework
+     * still compiles for Java 17.
+     */
+    private static ThreadFactory newVirtualThreadFactory(String name) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread factory", e);
+        }
+    }
+}
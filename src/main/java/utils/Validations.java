@@ -1,10 +1,17 @@
 package utils;
 
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * Wrapper class for common validations and assertions.
  * Provides reusable methods for verifying UI elements and content.
@@ -13,7 +20,6 @@ import org.testng.Assert;
 public class Validations {
 
     private static final Logger logger = LoggerFactory.getLogger(Validations.class);
-    private static final int DEFAULT_TIMEOUT = 10;
 
     // ==================== ELEMENT VISIBILITY ====================
 
@@ -34,7 +40,7 @@ public class Validations {
     public static void validateElementIsNotDisplayed(WebElement element, String elementName) {
         logger.info("Validating '{}' is NOT displayed", elementName);
         try {
-            Actions.waitForInvisible(element, DEFAULT_TIMEOUT);
+            Actions.waitForInvisible(element, Constants.DEFAULT_TIMEOUT);
             logger.info("Validation result: {} is invisible", elementName);
         } catch (Exception e) {
             // Element not found means it's not displayed - which is what we want
@@ -86,6 +92,28 @@ public class Validations {
         Assert.assertFalse(isSelected, elementName + " should NOT be selected");
     }
 
+    /**
+     * Validates that several elements are displayed, reading all of them in one remote call per poll.
+     * @param elements element name -> locator, e.g. Map.of("Cart badge", PageLocators.of(page, "cartBadge"))
+     */
+    public static void validateElementsAreDisplayed(Map<String, By> elements) {
+        logger.info("Validating {} are displayed", elements.keySet());
+        List<By> locators = List.copyOf(elements.values());
+        try {
+            WaitEngine.until("all displayed: " + elements.keySet(), driver ->
+                    ElementStates.query(locators).values().stream().allMatch(ElementStates.ElementState::isDisplayed),
+                    Constants.DEFAULT_TIMEOUT);
+        } catch (TimeoutException e) {
+            Map<By, ElementStates.ElementState> states = ElementStates.query(locators);
+            String missing = elements.entrySet().stream()
+                    .filter(entry -> !states.get(entry.getValue()).isDisplayed())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.joining(", "));
+            Assert.fail(missing + " should be displayed");
+        }
+        logger.info("Validation result: {} are displayed", elements.keySet());
+    }
+
     // ==================== TEXT VALIDATIONS ====================
 
     /**
@@ -269,7 +297,7 @@ public class Validations {
 
     /**
      * Checks if element is displayed with explicit wait (returns boolean, no assertion).
-     * Waits up to DEFAULT_TIMEOUT seconds for the element to be visible.
+     * Waits up to Constants.DEFAULT_TIMEOUT seconds (scaled by wait.profile) for the element to be visible.
      */
     public static boolean isDisplayed(WebElement element) {
         try {
@@ -313,6 +341,24 @@ public class Validations {
         }
     }
 
+    /**
+     * Checks if any of the elements is displayed, waiting up to timeoutSeconds (returns boolean, no assertion).
+     * Each poll reads every element in one remote call instead of waiting on them one after another.
+     */
+    public static boolean isAnyDisplayed(int timeoutSeconds, By... locators) {
+        List<By> elements = Arrays.asList(locators);
+        try {
+            WaitEngine.until("any displayed: " + elements, driver ->
+                    ElementStates.query(elements).values().stream().anyMatch(ElementStates.ElementState::isDisplayed),
+                    timeoutSeconds);
+            logger.debug("One of {} is displayed", elements);
+            return true;
+        } catch (Exception e) {
+            logger.debug("None of {} displayed: {}", elements, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Waits for element to be visible with custom timeout and checks if displayed.
      */
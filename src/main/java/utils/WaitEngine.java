@@ -0,0 +1,221 @@
+package utils;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shared wait loop used by Actions and Validations instead of a new WebDriverWait per call.
+ * Polling starts fast and backs off exponentially, so elements that are already there are
+ * found within tens of milliseconds and slow screens are not polled every few milliseconds.
+ * Readiness latency is recorded per locator: the first poll interval follows the observed
+ * median, and with wait.adaptiveTimeouts=true the timeout shrinks to a multiple of the p99.
+ * Timeouts scale with the profile chosen by wait.profile (local, ci or fast).
+ */
+public class WaitEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitEngine.class);
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final int MIN_SAMPLES_FOR_LEARNED_TIMEOUT = 20;
+    private static final int LEARNED_TIMEOUT_P99_MULTIPLIER = 4;
+
+    private static final Profile profile = Profile.fromConfig();
+    private static final boolean adaptiveTimeouts = Boolean.parseBoolean(Config.get("wait.adaptiveTimeouts", "false"));
+    private static final Map<String, LatencyStats> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Timeout profile: scales every timeout and bounds the poll interval.
+     */
+    enum Profile {
+        LOCAL(1.0, 25, 500),
+        CI(2.0, 50, 1000),
+        FAST(0.5, 10, 250);
+
+        private final double timeoutMultiplier;
+        private final long minPollMillis;
+        private final long maxPollMillis;
+
+        Profile(double timeoutMultiplier, long minPollMillis, long maxPollMillis) {
+            this.timeoutMultiplier = timeoutMultiplier;
+            this.minPollMillis = minPollMillis;
+            this.maxPollMillis = maxPollMillis;
+        }
+
+        static Profile fromConfig() {
+            String name = Config.get("wait.profile", "local");
+            try {
+                return valueOf(name.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown wait.profile '" + name + "' - use local, ci or fast");
+            }
+        }
+    }
+
+    // ==================== TIMEOUTS ====================
+
+    /**
+     * Gets the short timeout (Constants.SHORT_TIMEOUT) scaled by the profile, in seconds.
+     */
+    public static int getShortTimeout() {
+        return scale(Constants.SHORT_TIMEOUT);
+    }
+
+    /**
+     * Gets the default timeout (Constants.DEFAULT_TIMEOUT) scaled by the profile, in seconds.
+     */
+    public static int getDefaultTimeout() {
+        return scale(Constants.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Gets the long timeout (Constants.LONG_TIMEOUT) scaled by the profile, in seconds.
+     */
+    public static int getLongTimeout() {
+        return scale(Constants.LONG_TIMEOUT);
+    }
+
+    private static int scale(int seconds) {
+        return Math.max(1, (int) Math.round(seconds * profile.timeoutMultiplier));
+    }
+
+    // ==================== WAITING ====================
+
+    /**
+     * Waits until the condition returns a non-null, non-false value.
+     * NotFoundException and StaleElementReferenceException count as "not ready yet".
+     * @param key locator or description the latency is recorded under
+     * @param condition condition to poll, e.g. ExpectedConditions.visibilityOf(element)
+     * @param timeoutSeconds timeout before profile scaling
+     * @return the condition's last value
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public static <T> T until(String key, Function<? super WebDriver, T> condition, int timeoutSeconds) {
+        WebDriver driver = DriverManager.getDriver();
+        LatencyStats stats = latencies.computeIfAbsent(key, k -> new LatencyStats());
+        long timeoutMillis = getTimeoutMillis(stats, timeoutSeconds);
+        long pollMillis = getFirstPollMillis(stats);
+        long start = System.currentTimeMillis();
+        RuntimeException lastError = null;
+
+        while (true) {
+            // Cached elements must be read fresh on every poll
+            ElementCache.invalidateReads();
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    stats.record(System.currentTimeMillis() - start);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long elapsed = System.currentTimeMillis() - start;
+            if (elapsed >= timeoutMillis) {
+                stats.recordTimeout();
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms with adaptive polling)",
+                        key, elapsed), lastError);
+            }
+            sleep(Math.min(pollMillis, timeoutMillis - elapsed));
+            pollMillis = Math.min(profile.maxPollMillis, (long) (pollMillis * BACKOFF_FACTOR));
+        }
+    }
+
+    /**
+     * Gets a summary of the learned readiness latencies per locator, slowest p99 first.
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder("Wait latencies (profile=" + profile.name().toLowerCase() + "):");
+        Map<Long, String> lines = new TreeMap<>((a, b) -> Long.compare(b, a));
+        latencies.forEach((key, stats) -> {
+            long[] snapshot = stats.snapshot();
+            if (snapshot.length > 0) {
+                lines.merge(percentile(snapshot, 99), String.format("%n  %s: samples=%d, p50=%dms, p99=%dms, timeouts=%d",
+                        key, snapshot.length, percentile(snapshot, 50), percentile(snapshot, 99), stats.timeouts), String::concat);
+            }
+        });
+        lines.values().forEach(report::append);
+        return report.toString();
+    }
+
+    private static long getTimeoutMillis(LatencyStats stats, int timeoutSeconds) {
+        long timeoutMillis = scale(timeoutSeconds) * 1000L;
+        if (!adaptiveTimeouts) {
+            return timeoutMillis;
+        }
+        long[] snapshot = stats.snapshot();
+        if (snapshot.length < MIN_SAMPLES_FOR_LEARNED_TIMEOUT || stats.timeouts > 0) {
+            return timeoutMillis;
+        }
+        long learned = Math.max(percentile(snapshot, 99) * LEARNED_TIMEOUT_P99_MULTIPLIER, getShortTimeout() * 1000L);
+        if (learned < timeoutMillis) {
+            logger.debug("Using learned timeout of {} ms instead of {} ms", learned, timeoutMillis);
+            return learned;
+        }
+        return timeoutMillis;
+    }
+
+    /**
+     * Starts polling at a quarter of the observed median, so typical waits need a few polls at most.
+     */
+    private static long getFirstPollMillis(LatencyStats stats) {
+        long[] snapshot = stats.snapshot();
+        if (snapshot.length == 0) {
+            return profile.minPollMillis;
+        }
+        return Math.max(profile.minPollMillis, Math.min(profile.maxPollMillis, percentile(snapshot, 50) / 4));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(1, millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+
+    // ==================== LATENCY SAMPLES ====================
+
+    /**
+     * Keeps the most recent readiness latencies of one locator.
+     */
+    private static final class LatencyStats {
+        private static final int WINDOW = 128;
+        private final long[] samples = new long[WINDOW];
+        private int count;
+        private volatile int timeouts;
+
+        synchronized void record(long millis) {
+            samples[count % WINDOW] = millis;
+            count++;
+        }
+
+        synchronized void recordTimeout() {
+            timeouts++;
+        }
+
+        /**
+         * Gets the recorded samples, sorted.
+         */
+        synchronized long[] snapshot() {
+            long[] copy = Arrays.copyOf(samples, Math.min(count, WINDOW));
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of live browser sessions.
+ * Tests lease a session instead of starting a new browser, and return it afterwards.
+ * Returned sessions are sanitized (cookies, storage, extra windows, about:blank)
+ * and recycled after a maximum number of uses or when the watchdog finds them hung.
+ * Chrome/Edge clear cookies and storage of every origin through CDP. Other browsers only clear
+ * the storage of the page the test ended on, so a later test on another origin may find its data;
+ * sessionStorage is only cleared for that page in any browser.
+ */
+public class WebSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSessionPool.class);
+    private static final String BLANK_PAGE = "about:blank";
+
+    private final Supplier<WebDriver> factory;
+    private final int maxSize;
+    private final int maxReuse;
+    private final Semaphore permits;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, Integer> useCounts = new ConcurrentHashMap<>();
+    private final SessionWarmer warmer;
+    private final SessionWatchdog watchdog = new SessionWatchdog("web");
+
+    // ==================== METRICS ====================
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitMillis = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong recycled = new AtomicLong();
+    private final AtomicLong healthFailures = new AtomicLong();
+
+    /**
+     * Creates a pool that opens sessions with the given factory.
+     * @param factory creates a new browser session
+     * @param maxSize maximum number of live sessions
+     * @param maxReuse number of tests a session may serve before it is recycled
+     */
+    public WebSessionPool(Supplier<WebDriver> factory, int maxSize, int maxReuse) {
+        this.factory = factory;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxReuse = Math.max(1, maxReuse);
+        this.permits = new Semaphore(this.maxSize, true);
+        this.warmer = new SessionWarmer("web", factory);
+        logger.info("Web session pool created: maxSize={}, maxReuse={}", this.maxSize, this.maxReuse);
+    }
+
+    // ==================== WARM-UP ====================
+
+    /**
+     * Starts opening sessions in the background so the first tests find them ready.
+     * Never warms more sessions than the pool may hold.
+     */
+    public void warmUp(int count) {
+        warmer.start(Math.min(count, maxSize));
+    }
+
+    // ==================== LEASE / RELEASE ====================
+
+    /**
+     * Leases a healthy session, waiting if all sessions are in use.
+     */
+    public WebDriver lease() {
+        acquirePermit();
+        leases.incrementAndGet();
+        try {
+            WebDriver driver;
+            while ((driver = idle.poll()) != null) {
+                if (watchdog.checkOut(driver)) {
+                    reused.incrementAndGet();
+                    logger.debug("Leased pooled session (use {} of {})", useCounts.get(driver) + 1, maxReuse);
+                    return driver;
+                }
+                healthFailures.incrementAndGet();
+                recycled.incrementAndGet();
+                useCounts.remove(driver);
+                watchdog.quitInBackground(driver);
+            }
+            // Prefer a pre-warmed session, waiting only while warm-ups are still in flight
+            driver = warmer.take();
+            if (driver != null) {
+                created.incrementAndGet();
+                useCounts.put(driver, 0);
+                return driver;
+            }
+            return createSession();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool.
+     * @param driver the session leased from this pool
+     * @param reusable false to recycle the session instead of reusing it (e.g. after a failure)
+     */
+    public void release(WebDriver driver, boolean reusable) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            int uses = useCounts.merge(driver, 1, Integer::sum);
+            if (!reusable || uses >= maxReuse || !sanitize(driver)) {
+                discard(driver);
+            } else {
+                // sanitize() just got answers from it
+                watchdog.watch(driver, true);
+                idle.offer(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quits every idle session and logs the pool metrics.
+     * Called once at the end of the suite.
+     */
+    public void shutdown() {
+        watchdog.shutdown();
+        List<WebDriver> sessions = new ArrayList<>();
+        idle.drainTo(sessions);
+        sessions.addAll(warmer.drain());
+        for (WebDriver driver : sessions) {
+            quitQuietly(driver);
+        }
+        useCounts.clear();
+        logger.info("Web session pool shut down - {}", getMetrics());
+        logger.info(warmer.getReport());
+        logger.info(watchdog.getReport());
+    }
+
+    /**
+     * Gets a one-line summary of the pool metrics.
+     */
+    public String getMetrics() {
+        long totalLeases = leases.get();
+        long avgWait = waits.get() == 0 ? 0 : waitMillis.get() / waits.get();
+        return String.format("leases=%d, created=%d, reused=%d, recycled=%d, healthFailures=%d, waits=%d, avgWaitMs=%d",
+                totalLeases, created.get(), reused.get(), recycled.get(), healthFailures.get(), waits.get(), avgWait);
+    }
+
+    // ==================== HELPERS ====================
+
+    private void acquirePermit() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        waits.incrementAndGet();
+        long start = System.currentTimeMillis();
+        logger.debug("All {} pooled sessions in use - waiting for one to be returned", maxSize);
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+        waitMillis.addAndGet(System.currentTimeMillis() - start);
+    }
+
+    private WebDriver createSession() {
+        long start = System.currentTimeMillis();
+        WebDriver driver = factory.get();
+        created.incrementAndGet();
+        useCounts.put(driver, 0);
+        logger.info("Started new pooled browser session in {} ms", System.currentTimeMillis() - start);
+        return driver;
+    }
+
+    /**
+     * Resets a session so the next test starts from a clean browser.
+     * @return true if the session was sanitized successfully
+     */
+    private boolean sanitize(WebDriver driver) {
+        try {
+            closeExtraWindows(driver);
+            clearStorage(driver);
+            driver.manage().deleteAllCookies();
+            if (driver instanceof ChromiumDriver) {
+                // deleteAllCookies only covers the current domain
+                ((ChromiumDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to sanitize pooled session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String main = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(main)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(main);
+    }
+
+    private void clearStorage(WebDriver driver) {
+        if (driver instanceof ChromiumDriver) {
+            // The script below only reaches the current origin; a failure here discards the session
+            ((ChromiumDriver) driver).executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", "*",
+                    "storageTypes", "local_storage,indexeddb,websql,cache_storage,service_workers"));
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (Exception e) {
+            logger.debug("Could not clear web storage: {}", e.getMessage());
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        recycled.incrementAndGet();
+        useCounts.remove(driver);
+        quitQuietly(driver);
+        logger.debug("Recycled pooled browser session");
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Failed to quit pooled session: {}", e.getMessage());
+        }
+    }
+}
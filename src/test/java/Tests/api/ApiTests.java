@@ -2,7 +2,8 @@ package Tests.api;
 
 import io.qameta.allure.*;
 import io.restassured.response.Response;
-import org.testng.annotations.BeforeClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 import utils.ApiUtils;
@@ -18,7 +19,7 @@ import utils.Validations;
 @Feature("Prospect API")
 public class ApiTests {
 
-    @BeforeClass
+    @BeforeMethod
     public void setup() {
         // Set base URL from Constants
         ApiUtils.setBaseUrl(Constants.API_BASE_URL);
@@ -30,6 +31,11 @@ public class ApiTests {
         ApiUtils.setHeader("ocp-apim-subscription-key", Constants.API_SUBSCRIPTION_KEY);
     }
 
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        ApiUtils.clearSettings();
+    }
+
     @Test
     @Description("Verify GET prospect returns correct data")
     public void testGetProspect() {
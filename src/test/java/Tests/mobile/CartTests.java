@@ -234,10 +234,8 @@ public class CartTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify quantity can be increased in cart and price updates")
     public void verifyIncreaseQuantityInCart() {
-        ReportUtils.step("Adding Bike Light to cart", () -> {
-            productsPage.tapOnProduct(Products.BIKE_LIGHT);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.tapOnCartBadge();
+        ReportUtils.step("Starting with Bike Light in the cart", () -> {
+            givenAppState().withCartItem(Products.BIKE_LIGHT).apply();
         });
 
         double initialPrice = Products.BIKE_LIGHT.getPrice();
@@ -262,11 +260,8 @@ public class CartTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify quantity can be decreased in cart")
     public void verifyDecreaseQuantityInCart() {
-        ReportUtils.step("Adding Backpack with quantity 3", () -> {
-            productsPage.tapOnProduct(Products.BACKPACK);
-            productDetailsPage.increaseQuantity(2); // qty = 3
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.tapOnCartBadge();
+        ReportUtils.step("Starting with 3 Backpacks in the cart", () -> {
+            givenAppState().withCartItem(Products.BACKPACK, null, 3).apply();
         });
 
         double initialTotal = Products.BACKPACK.getPrice() * 3;
@@ -293,10 +288,8 @@ public class CartTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify removing single item makes cart empty")
     public void verifySingleItemRemoval() {
-        ReportUtils.step("Adding Backpack to cart", () -> {
-            productsPage.tapOnProduct(Products.BACKPACK);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.tapOnCartBadge();
+        ReportUtils.step("Starting with Backpack in the cart", () -> {
+            givenAppState().withCartItem(Products.BACKPACK).apply();
         });
 
         ReportUtils.step("Verifying item is in cart", () -> {
@@ -319,18 +312,12 @@ public class CartTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify removing all items from cart one by one")
     public void verifyRemoveAllItems() {
-        ReportUtils.step("Adding 3 products to cart", () -> {
-            productsPage.tapOnProduct(Products.BACKPACK);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.goBackToProducts();
-
-            productsPage.tapOnProduct(Products.BIKE_LIGHT);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.goBackToProducts();
-
-            productsPage.tapOnProduct(Products.BOLT_TSHIRT);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.tapOnCartBadge();
+        ReportUtils.step("Starting with 3 products in the cart", () -> {
+            givenAppState()
+                    .withCartItem(Products.BACKPACK)
+                    .withCartItem(Products.BIKE_LIGHT)
+                    .withCartItem(Products.BOLT_TSHIRT)
+                    .apply();
         });
 
         ReportUtils.step("Verifying 3 items in cart", () -> {
@@ -701,10 +688,8 @@ public class CartTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify checkout cannot proceed without logging in")
     public void verifyCheckoutRequiresLogin() {
-        ReportUtils.step("Adding product to cart", () -> {
-            productsPage.tapOnProduct(Products.BIKE_LIGHT);
-            productDetailsPage.tapAddToCart();
-            productDetailsPage.tapOnCartBadge();
+        ReportUtils.step("Starting with Bike Light in the cart", () -> {
+            givenAppState().withCartItem(Products.BIKE_LIGHT).apply();
         });
 
         ReportUtils.step("Attempting to proceed to checkout", () -> {
@@ -722,6 +707,28 @@ public class CartTests extends BaseTest {
         });
     }
 
+    @Test
+    @Story("Checkout Requires Login")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a logged-in user goes from cart straight to the address screen")
+    public void verifyLoggedInCheckoutSkipsLogin() {
+        ReportUtils.step("Starting logged in with Fleece Jacket (gray) in the cart", () -> {
+            givenAppState()
+                    .loggedInAs(LoginPage.VALID_USERNAME, LoginPage.VALID_PASSWORD)
+                    .withCartItem(Products.FLEECE_JACKET, Colors.GRAY, 1)
+                    .apply();
+        });
+
+        ReportUtils.step("Proceeding to checkout", () -> {
+            cartPage.tapProceedToCheckout();
+        });
+
+        ReportUtils.step("Verifying address screen appears without logging in again", () -> {
+            Validations.validateTrue(checkoutPage.isAddressScreenDisplayed(),
+                "A logged-in user should go straight to the address screen");
+        });
+    }
+
     // ========== EDGE CASE TESTS ==========
 
     @Test
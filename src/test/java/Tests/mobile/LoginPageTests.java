@@ -2,7 +2,6 @@ package Tests.mobile;
 
 import base.mobile.BaseTest;
 import io.qameta.allure.*;
-import pages.mobile.HomePage;
 import pages.mobile.LoginPage;
 import utils.Constants;
 import utils.ReportUtils;
@@ -18,12 +17,10 @@ import org.testng.annotations.Test;
 public class LoginPageTests extends BaseTest {
 
     LoginPage loginPage;
-    HomePage homePage;
 
     @BeforeMethod
     public void initPage() {
         loginPage = new LoginPage();
-        homePage = new HomePage();
     }
 
     @Test
@@ -31,8 +28,8 @@ public class LoginPageTests extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that login button remains visible when entering wrong credentials")
     public void verifyUsernameAndPasswordIsWrong() {
-        ReportUtils.step("Navigating to login page", () -> {
-            homePage.tapOnMenuItemLogin();
+        ReportUtils.step("Opening the login page", () -> {
+            givenAppState().onLoginScreen().apply();
         });
         
         ReportUtils.step("Entering invalid username: " + Constants.INVALID_USERNAME, () -> {
@@ -54,8 +51,8 @@ public class LoginPageTests extends BaseTest {
     @Severity(SeverityLevel.BLOCKER)
     @Description("Verify that login button disappears after successful login")
     public void verifyUsernameAndPasswordIsCorrect() {
-        ReportUtils.step("Navigating to login page", () -> {
-            homePage.tapOnMenuItemLogin();
+        ReportUtils.step("Opening the login page", () -> {
+            givenAppState().onLoginScreen().apply();
         });
         
         ReportUtils.step("Entering valid username: " + Constants.VALID_USERNAME, () -> {
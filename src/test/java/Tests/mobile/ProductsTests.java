@@ -97,6 +97,11 @@ public class ProductsTests extends BaseTest {
             Validations.validateTrue(productsPage.hasProducts(),
                 "Products should still be visible after sorting by name A-Z");
         });
+
+        ReportUtils.step("Verifying the order against the catalog", () -> {
+            Validations.validateTrue(productsPage.isSortedBy(ProductsPage.SortOrder.NAME_ASC),
+                "Products should be listed by name A-Z");
+        });
     }
 
     @Test
@@ -112,6 +117,11 @@ public class ProductsTests extends BaseTest {
             Validations.validateTrue(productsPage.hasProducts(),
                 "Products should be visible after sorting by name Z-A");
         });
+
+        ReportUtils.step("Verifying the order against the catalog", () -> {
+            Validations.validateTrue(productsPage.isSortedBy(ProductsPage.SortOrder.NAME_DESC),
+                "Products should be listed by name Z-A");
+        });
     }
 
     @Test
@@ -128,6 +138,11 @@ public class ProductsTests extends BaseTest {
                 "Products should be visible after sorting by price ascending");
         });
 
+        ReportUtils.step("Verifying the order against the catalog", () -> {
+            Validations.validateTrue(productsPage.isSortedBy(ProductsPage.SortOrder.PRICE_ASC),
+                "Products should be listed by price, lowest first");
+        });
+
         ReportUtils.step("Tapping first product (should be cheapest)", () -> {
             productsPage.tapOnFirstProduct();
         });
@@ -152,6 +167,11 @@ public class ProductsTests extends BaseTest {
                 "Products should be visible after sorting by price descending");
         });
 
+        ReportUtils.step("Verifying the order against the catalog", () -> {
+            Validations.validateTrue(productsPage.isSortedBy(ProductsPage.SortOrder.PRICE_DESC),
+                "Products should be listed by price, highest first");
+        });
+
         ReportUtils.step("Tapping first product (should be most expensive)", () -> {
             productsPage.tapOnFirstProduct();
         });
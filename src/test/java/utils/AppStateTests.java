@@ -0,0 +1,138 @@
+package utils;
+
+import base.mobile.AppState;
+import constants.Colors;
+import constants.Products;
+import io.qameta.allure.*;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * App State Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Cart contents are injected with one deep link instead of product screen taps
+ * - The injected cart is checked against the declaration, colors included, with one screen read
+ * - Elements cached before a deep link are located again after it
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("App State Injection")
+public class AppStateTests extends FakeDeviceTest {
+
+    private static final String APP_ID = "com.saucelabs.mydemoapp.rn";
+
+    private static final String CART_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='cart screen' displayed='true' enabled='true'>" +
+            "<android.view.ViewGroup content-desc='product row'>" +
+            "<android.widget.TextView content-desc='product label' text='Sauce Labs Backpack'/>" +
+            "<android.view.ViewGroup content-desc='blue circle'/>" +
+            "<android.widget.TextView content-desc='product price' text='$29.99'/>" +
+            "<android.widget.TextView content-desc='counter amount' text='2'/>" +
+            "</android.view.ViewGroup>" +
+            "<android.view.ViewGroup content-desc='product row'>" +
+            "<android.widget.TextView content-desc='product label' text='Sauce Labs Bike Light'/>" +
+            "<android.view.ViewGroup content-desc='black circle'/>" +
+            "<android.widget.TextView content-desc='product price' text='$9.99'/>" +
+            "<android.widget.TextView content-desc='counter amount' text='1'/>" +
+            "</android.view.ViewGroup>" +
+            "<android.widget.TextView content-desc='total number' text='3 items'/>" +
+            "<android.widget.TextView content-desc='total price' text='$69.97'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource("<hierarchy/>");
+        server.setDeepLinkSource("mydemoapprn://cart/", CART_SOURCE);
+    }
+
+    @Test
+    @Story("Cart Injection")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify cart contents are injected with one deep link and no taps")
+    public void verifyCartInjectedWithOneDeepLink() {
+        int linksBefore = fakeServer.getDeepLinks().size();
+
+        ReportUtils.step("Declaring 2 blue Backpacks and a Bike Light", () -> AppState.given(APP_ID)
+                .withCartItem(Products.BACKPACK, Colors.BLUE, 1)
+                .withCartItem(Products.BIKE_LIGHT)
+                .withCartItem(Products.BACKPACK, Colors.BLUE, 1)
+                .apply());
+
+        List<String> links = fakeServer.getDeepLinks().subList(linksBefore, fakeServer.getDeepLinks().size());
+        ReportUtils.step("Verifying one cart deep link carried every item", () -> {
+            Validations.validateEquals(links, List.of("mydemoapprn://cart/id=1&amount=2&color=blue,id=2&amount=1"),
+                    "The cart should be filled with one deep link, repeated items added up");
+            Validations.validateFalse(fakeServer.getCommands().stream().anyMatch(command -> command.endsWith("/click")),
+                    "No product screen taps should be needed");
+            Validations.validateTrue(fakeServer.getActions().isEmpty(), "No gestures should be needed");
+        });
+    }
+
+    @Test
+    @Story("Cart Injection")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a cart that does not match the declaration fails the precondition")
+    public void verifyMismatchedCartRejected() {
+        AppState state = AppState.given(APP_ID).withCartItem(Products.ONESIE, Colors.RED, 1);
+
+        ReportUtils.step("Verifying the cart screen is checked against the declaration", () -> {
+            try {
+                state.apply();
+                Validations.validateTrue(false, "A cart showing other products should be rejected");
+            } catch (IllegalStateException e) {
+                Validations.validateTrue(e.getMessage().contains("1x Sauce Labs Onesie (red)"),
+                        "The failure should name the declared items: " + e.getMessage());
+            }
+        });
+    }
+
+    @Test
+    @Story("Cart Injection")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a cart with the declared products in another color fails the precondition")
+    public void verifyWrongColorRejected() {
+        AppState state = AppState.given(APP_ID)
+                .withCartItem(Products.BACKPACK, Colors.RED, 2)
+                .withCartItem(Products.BIKE_LIGHT);
+
+        ReportUtils.step("Verifying the row colors are checked against the declaration", () -> {
+            try {
+                state.apply();
+                Validations.validateTrue(false, "A blue Backpack should not pass for a red one");
+            } catch (IllegalStateException e) {
+                Validations.validateTrue(e.getMessage().contains("2x Sauce Labs Backpack (red)"),
+                        "The failure should name the declared color: " + e.getMessage());
+            }
+        });
+    }
+
+    @Test
+    @Story("Cart Injection")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a cached element read before the deep link is read again from the new screen")
+    public void verifyDeepLinkInvalidatesCachedElements() {
+        System.setProperty("elements.cache.enabled", "true");
+        try {
+            fakeServer.setPageSource("<hierarchy><android.widget.TextView content-desc='total price' text='$0.00'/></hierarchy>");
+            ElementCacheTests.TotalPage page = new ElementCacheTests.TotalPage();
+            String before = page.getTotal();
+
+            AppState.given(APP_ID)
+                    .withCartItem(Products.BACKPACK, Colors.BLUE, 2)
+                    .withCartItem(Products.BIKE_LIGHT)
+                    .apply();
+            String after = page.getTotal();
+
+            ReportUtils.step("Verifying the total was read from the cart screen", () -> {
+                Validations.validateEquals(before, "$0.00", "The total should first be read from the empty screen");
+                Validations.validateEquals(after, "$69.97", "The deep link should drop the cached total");
+            });
+        } finally {
+            System.clearProperty("elements.cache.enabled");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * Command Metrics Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Commands are counted by name and attributed to the running step
+ * - Metering keeps the driver's own class
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Command Metrics")
+public class CommandMetricsTests extends FakeDeviceTest {
+
+    @BeforeClass
+    public void installMetrics() {
+        CommandMetrics.install(driver);
+    }
+
+    @Test
+    @Story("Per-Test Accounting")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify commands are counted by name and attributed to the step that sent them")
+    public void verifyCommandsAttributedToSteps() {
+        CommandMetrics.startTest("metered test");
+        ReportUtils.step("Reading the page source twice", () -> {
+            driver.getPageSource();
+            driver.getPageSource();
+        });
+        String report = CommandMetrics.finishTest();
+
+        ReportUtils.step("Verifying the command table", () -> {
+            Validations.validateTrue(report.startsWith("2 commands"), "Both commands should be counted: " + report);
+            Validations.validateTrue(report.matches("(?s).*getPageSource\\s+2 .*"), "getPageSource should be counted twice");
+            Validations.validateTrue(report.matches("(?s).*2\\s+Reading the page source twice.*"),
+                    "Both commands should be attributed to the step");
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package utils;
+
+import base.mobile.BaseTest;
+import io.appium.java_client.AppiumDriver;
+import io.qameta.allure.*;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Device Pool Test Suite
+ * Runs against local fake Appium servers, so no emulator is needed:
+ * - Each worker leases a different device
+ * - Sessions open on each device's own endpoint with its own ports
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Device Pool")
+public class DevicePoolTests {
+
+    FakeAppiumServer firstServer;
+    FakeAppiumServer secondServer;
+
+    @BeforeClass
+    public void startFakeServers() throws IOException {
+        firstServer = new FakeAppiumServer();
+        secondServer = new FakeAppiumServer();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeServers() {
+        if (firstServer != null) {
+            firstServer.stop();
+        }
+        if (secondServer != null) {
+            secondServer.stop();
+        }
+    }
+
+    @Test
+    @Story("Device Leasing")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify concurrent workers each lease a different device")
+    public void verifyWorkersLeaseDistinctDevices() throws Exception {
+        DevicePool pool = new DevicePool(List.of(
+                new Device("emulator-5554", "Emulator 1", null, firstServer.getUrl(), 8200, 9515, 0),
+                new Device("emulator-5556", "Emulator 2", null, firstServer.getUrl(), 8201, 9516, 0),
+                new Device("emulator-5558", "Emulator 3", null, secondServer.getUrl(), 8202, 9517, 0)));
+        Set<String> leasedUdids = new HashSet<>();
+
+        ReportUtils.step("Leasing a device from 3 workers at once", () -> {
+            ExecutorService workers = Executors.newFixedThreadPool(3);
+            try {
+                Callable<Device> lease = pool::tryLease;
+                for (Future<Device> device : workers.invokeAll(List.of(lease, lease, lease))) {
+                    leasedUdids.add(device.get().getUdid());
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                workers.shutdown();
+            }
+        });
+
+        ReportUtils.step("Verifying every worker got its own device", () -> {
+            Validations.validateEquals(leasedUdids.size(), 3, "Each worker should lease a different device");
+            Validations.validateTrue(pool.tryLease() == null, "No device should be left once all are leased");
+        });
+
+        ReportUtils.step("Verifying a released device can be leased again", () -> {
+            Device device = pool.getDevices().get(0);
+            pool.release(device);
+            Validations.validateEquals(pool.tryLease(), device, "Released device should be leased again");
+        });
+    }
+
+    @Test
+    @Story("Device Sessions")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify sessions open on each device's endpoint with its own ports")
+    public void verifySessionsOpenOnDeviceEndpoints() {
+        Device first = new Device("emulator-5554", "Emulator 1", null, firstServer.getUrl(), 8200, 9515, 0);
+        Device second = new Device("emulator-5556", "Emulator 2", null, secondServer.getUrl(), 8201, 9516, 0);
+
+        ReportUtils.step("Opening a session on each device", () -> {
+            AppiumDriver firstDriver = BaseTest.createDriver(first);
+            AppiumDriver secondDriver = BaseTest.createDriver(second);
+            firstDriver.quit();
+            secondDriver.quit();
+        });
+
+        ReportUtils.step("Verifying each server received its device's session", () -> {
+            Map<String, Object> firstSession = firstServer.getSessions().get(0);
+            Map<String, Object> secondSession = secondServer.getSessions().get(0);
+            Validations.validateEquals(firstSession.get("udid"), "emulator-5554", "First server should get first device");
+            Validations.validateEquals(secondSession.get("udid"), "emulator-5556", "Second server should get second device");
+            Validations.validateEquals(firstSession.get("systemPort"), 8200, "First device should use its systemPort");
+            Validations.validateEquals(secondSession.get("systemPort"), 8201, "Second device should use its systemPort");
+            Validations.validateEquals(secondSession.get("chromedriverPort"), 9516, "Second device should use its chromedriverPort");
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import io.qameta.allure.*;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Element Cache Test Suite
+ * Runs against local fake Appium servers, so no emulator is needed:
+ * - Repeated reads are answered from the cache until an invalidation
+ * - A page object shared by two threads reads each thread's own session
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Element Cache")
+public class ElementCacheTests extends FakeDeviceTest {
+
+    private static final String SOURCE =
+            "<hierarchy><android.widget.TextView content-desc='total price' text='$29.99'/></hierarchy>";
+    private static final String OTHER_SOURCE =
+            "<hierarchy><android.widget.TextView content-desc='total price' text='$9.99'/></hierarchy>";
+
+    private FakeAppiumServer otherServer;
+    private AndroidDriver otherDriver;
+
+    /**
+     * A page with one cached element, like CartPage's total.
+     */
+    public static class TotalPage {
+        @AndroidFindBy(accessibility = "total price")
+        private WebElement total;
+
+        TotalPage() {
+            ElementCache.apply(this);
+        }
+
+        String getTotal() {
+            return total.getText();
+        }
+    }
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(SOURCE);
+    }
+
+    @BeforeClass
+    public void startOtherDevice() throws IOException {
+        System.setProperty("elements.cache.enabled", "true");
+        otherServer = new FakeAppiumServer();
+        otherServer.setPageSource(OTHER_SOURCE);
+        DesiredCapabilities caps = new DesiredCapabilities();
+        caps.setCapability("platformName", "Android");
+        caps.setCapability("automationName", "UIAutomator2");
+        caps.setCapability("deviceName", "Other Fake Device");
+        otherDriver = new AndroidDriver(new URL(otherServer.getUrl()), caps);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopOtherDevice() {
+        System.clearProperty("elements.cache.enabled");
+        if (otherDriver != null) {
+            otherDriver.quit();
+        }
+        if (otherServer != null) {
+            otherServer.stop();
+        }
+    }
+
+    @Test
+    @Story("Cache Hits")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify repeated reads hit the cache and invalidations miss it")
+    public void verifyReadsHitUntilInvalidated() {
+        TotalPage page = new TotalPage();
+        int findsBefore = count(fakeServer.getCommands(), "/elements");
+        int textsBefore = count(fakeServer.getCommands(), "/text");
+
+        page.getTotal();
+        page.getTotal();
+        int findsAfterReads = count(fakeServer.getCommands(), "/elements") - findsBefore;
+        int textsAfterReads = count(fakeServer.getCommands(), "/text") - textsBefore;
+
+        ElementCache.invalidateReads();
+        page.getTotal();
+        int findsAfterClick = count(fakeServer.getCommands(), "/elements") - findsBefore;
+        int textsAfterClick = count(fakeServer.getCommands(), "/text") - textsBefore;
+
+        ElementCache.invalidateAll();
+        String total = page.getTotal();
+        int findsAfterNavigation = count(fakeServer.getCommands(), "/elements") - findsBefore;
+
+        ReportUtils.step("Verifying which reads went to the device", () -> {
+            Validations.validateEquals(total, "$29.99", "The total should be read from the screen");
+            Validations.validateEquals(findsAfterReads, 1, "Two reads should locate the element once");
+            Validations.validateEquals(textsAfterReads, 1, "The second read should be answered from the cache");
+            Validations.validateEquals(findsAfterClick, 1, "A read invalidation should keep the located element");
+            Validations.validateEquals(textsAfterClick, 2, "A read invalidation should read the text again");
+            Validations.validateEquals(findsAfterNavigation, 2, "A full invalidation should locate the element again");
+        });
+    }
+
+    @Test
+    @Story("Shared Page Objects")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a page object shared by two threads reads each thread's own session")
+    public void verifySharedPageReadsEachThreadsSession() throws Exception {
+        TotalPage page = new TotalPage();
+
+        // Fresh threads, like TestNG workers, so their invalidation counts line up
+        String firstTotal = readOnNewThread(page, driver);
+        String otherTotal = readOnNewThread(page, otherDriver);
+
+        ReportUtils.step("Verifying each thread saw its own screen", () -> {
+            Validations.validateEquals(firstTotal, "$29.99", "The first thread should read its own session");
+            Validations.validateEquals(otherTotal, "$9.99", "The other thread should not get the first thread's cached text");
+            Validations.validateEquals(count(otherServer.getCommands(), "/text"), 1,
+                    "The other thread should read from its own session");
+        });
+    }
+
+    /**
+     * Reads the page's total on a new thread bound to the given session.
+     */
+    private static String readOnNewThread(TotalPage page, AndroidDriver session) throws Exception {
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            return thread.submit(() -> {
+                DriverManager.setDriver(session);
+                try {
+                    return page.getTotal();
+                } finally {
+                    DriverManager.clearDriver();
+                }
+            }).get();
+        } finally {
+            thread.shutdown();
+        }
+    }
+}
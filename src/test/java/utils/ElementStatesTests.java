@@ -0,0 +1,156 @@
+package utils;
+
+import io.appium.java_client.AppiumBy;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.CartPage;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched Element State Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Page-object locators resolve from annotations without device calls
+ * - The state of several elements is read from one page-source snapshot
+ * - Elements are described for logs without any device calls
+ * - A whole cart is read from one snapshot
+ * - snapshot.maxDepth is sent to the session once
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Batched Element State")
+public class ElementStatesTests extends FakeDeviceTest {
+
+    private static final String CART_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='cart screen' displayed='true' enabled='true'>" +
+            "<android.widget.TextView text='No Items' displayed='true' enabled='true'/>" +
+            "<android.view.ViewGroup content-desc='Go Shopping button' displayed='true' enabled='false'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    private static final String FULL_CART_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='cart screen' displayed='true' enabled='true'>" +
+            "<android.view.ViewGroup content-desc='product row' displayed='true' enabled='true'>" +
+            "<android.widget.TextView content-desc='product label' text='Sauce Labs Backpack' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='product price' text='$29.99' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='counter amount' text='2' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "<android.view.ViewGroup content-desc='product row' displayed='true' enabled='true'>" +
+            "<android.widget.TextView content-desc='product label' text='Sauce Labs Bike Light' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='product price' text='$9.99' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='counter amount' text='1' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "<android.widget.TextView content-desc='total number' text='3 items' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='total price' text='$69.97' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(CART_SOURCE);
+    }
+
+    @Test
+    @Story("Single Round-Trip")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify the state of several elements is read with one page-source command")
+    public void verifyStatesReadFromOneSnapshot() {
+        By noItems = PageLocators.of(CartPage.class, "noItemsMessage");
+        By goShopping = PageLocators.of(CartPage.class, "goShoppingButton");
+        By checkout = PageLocators.of(CartPage.class, "proceedToCheckoutButton");
+
+        ReportUtils.step("Verifying annotations resolve to Android locators", () -> {
+            Validations.validateEquals(goShopping, AppiumBy.accessibilityId("Go Shopping button"), "Go Shopping locator");
+            Validations.validateEquals(noItems, By.xpath("//android.widget.TextView[contains(@text, 'No Items')]"), "No Items locator");
+        });
+
+        int commandsBefore = fakeServer.getCommands().size();
+        Map<By, ElementStates.ElementState> states = ElementStates.query(List.of(noItems, goShopping, checkout));
+        List<String> commands = fakeServer.getCommands().subList(commandsBefore, fakeServer.getCommands().size());
+
+        ReportUtils.step("Verifying one command answered every element", () -> {
+            Validations.validateEquals(commands.size(), 1, "Only the page source should be requested: " + commands);
+            Validations.validateTrue(commands.get(0).endsWith("/source"), "The command should be the page source");
+        });
+
+        ReportUtils.step("Verifying the states match the snapshot", () -> {
+            Validations.validateTrue(states.get(noItems).isDisplayed(), "No Items should be displayed");
+            Validations.validateEquals(states.get(noItems).getText(), "No Items", "No Items text");
+            Validations.validateFalse(states.get(goShopping).isEnabled(), "Go Shopping should be disabled");
+            Validations.validateFalse(states.get(checkout).isPresent(), "Checkout button should be absent");
+        });
+    }
+
+    @Test
+    @Story("Element Descriptions")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify page-object elements are described from their annotations without device calls")
+    public void verifyDescriptionsNeedNoCommands() throws Exception {
+        CartPage cartPage = new CartPage();
+        Field field = CartPage.class.getDeclaredField("goShoppingButton");
+        field.setAccessible(true);
+        WebElement goShoppingButton = (WebElement) field.get(cartPage);
+
+        int commandsBefore = fakeServer.getCommands().size();
+        String description = ElementDescriptions.describe(goShoppingButton);
+
+        ReportUtils.step("Verifying the description comes from the field and its locator", () -> {
+            Validations.validateEquals(description, "CartPage.goShoppingButton (AppiumBy.accessibilityId: Go Shopping button)",
+                    "Element description");
+            Validations.validateEquals(fakeServer.getCommands().size(), commandsBefore, "No command should be sent");
+        });
+    }
+
+    @Test
+    @Story("Single Round-Trip")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a full cart (names, prices, quantities, totals) is read with one page-source command")
+    public void verifyCartReadFromOneSnapshot() {
+        fakeServer.setPageSource(FULL_CART_SOURCE);
+        CartPage cartPage = new CartPage();
+
+        int commandsBefore = fakeServer.getCommands().size();
+        CartPage.CartContents cart = cartPage.readCart();
+        List<String> commands = fakeServer.getCommands().subList(commandsBefore, fakeServer.getCommands().size());
+        fakeServer.setPageSource(CART_SOURCE);
+
+        ReportUtils.step("Verifying one command read the whole cart", () -> {
+            Validations.validateEquals(commands.size(), 1, "Only the page source should be requested: " + commands);
+        });
+
+        ReportUtils.step("Verifying the cart contents", () -> {
+            Validations.validateEquals(cart.getProductNames(), List.of("Sauce Labs Backpack", "Sauce Labs Bike Light"), "Product names");
+            Validations.validateEquals(cart.getProductPrices(), List.of("$29.99", "$9.99"), "Product prices");
+            Validations.validateEquals(cart.getQuantities(), List.of(2, 1), "Quantities");
+            Validations.validateEquals(cart.getTotalItemsCount(), 3, "Total items");
+            Validations.validateEquals(cart.getTotalPriceValue(), 69.97, "Total price");
+        });
+    }
+
+    @Test
+    @Story("Snapshot Size")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify snapshot.maxDepth is applied once per session, not before every snapshot")
+    public void verifyMaxDepthAppliedOncePerSession() {
+        int settingsBefore = count(fakeServer.getCommands(), "/appium/settings");
+        System.setProperty("snapshot.maxDepth", "30");
+        try {
+            ScreenSnapshot.capture();
+            ScreenSnapshot.capture();
+        } finally {
+            System.clearProperty("snapshot.maxDepth");
+        }
+        int settings = count(fakeServer.getCommands(), "/appium/settings") - settingsBefore;
+
+        ReportUtils.step("Verifying the depth setting was sent once", () -> {
+            Validations.validateEquals(settings, 1, "snapshotMaxDepth should be set once for the session");
+        });
+    }
+}
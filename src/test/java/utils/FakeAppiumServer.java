@@ -0,0 +1,394 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process stand-in for an Appium server.
+ * Accepts W3C new-session/delete-session requests, serves a settable page source, finds elements
+ * in it by xpath, accessibility id, id and class name, reports their displayed/enabled attributes,
+ * keeps text typed or set into them (sendKeys, clear, mobile: replaceElementValue) in the source,
+ * pages through a list of sources on mobile: scrollGesture, switches to the source registered for
+ * a mobile: deepLink URL, and answers every other command with a null value, so device pooling, session handling and page
+ * objects can be exercised without emulators.
+ * Capabilities of each new session, every command and every W3C action payload are recorded for assertions.
+ */
+public class FakeAppiumServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FakeAppiumServer.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    private final HttpServer server;
+    private final AtomicInteger sessionCounter = new AtomicInteger();
+    private final List<Map<String, Object>> sessions = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> commands = Collections.synchronizedList(new ArrayList<>());
+    private final List<Map<String, Object>> actions = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> scripts = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> deepLinks = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, String> deepLinkSources = new ConcurrentHashMap<>();
+    private volatile List<String> scrollPages = List.of();
+    private volatile int scrollPage;
+    private final Map<String, Long> findDelays = new ConcurrentHashMap<>();
+    private volatile String pageSource;
+
+    /**
+     * Starts a fake server on a free local port.
+     */
+    public FakeAppiumServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * Starts a fake server on the given local port.
+     */
+    public FakeAppiumServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Fake Appium server started at {}", getUrl());
+    }
+
+    /**
+     * Gets the base URL to use as a device's appiumUrl.
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Gets the capabilities of every session created on this server.
+     */
+    public List<Map<String, Object>> getSessions() {
+        return new ArrayList<>(sessions);
+    }
+
+    /**
+     * Gets every command received, as "METHOD /path" with the session id left in.
+     */
+    public List<String> getCommands() {
+        return new ArrayList<>(commands);
+    }
+
+    /**
+     * Gets the body of every performActions request received.
+     */
+    public List<Map<String, Object>> getActions() {
+        return new ArrayList<>(actions);
+    }
+
+    /**
+     * Gets the name or body of every script executed, e.g. "mobile: scrollGesture".
+     */
+    public List<String> getScripts() {
+        return new ArrayList<>(scripts);
+    }
+
+    /**
+     * Gets the URL of every mobile: deepLink opened.
+     */
+    public List<String> getDeepLinks() {
+        return new ArrayList<>(deepLinks);
+    }
+
+    /**
+     * Makes deep links starting with a prefix (e.g. "mydemoapprn://cart/") show the given source.
+     */
+    public void setDeepLinkSource(String urlPrefix, String source) {
+        deepLinkSources.put(urlPrefix, source);
+    }
+
+    /**
+     * Sets the sources a scrollable screen shows, top page first; scroll gestures move between them.
+     */
+    public void setScrollPages(String... sources) {
+        scrollPages = List.of(sources);
+        scrollPage = 0;
+        pageSource = sources[0];
+    }
+
+    /**
+     * Sets the XML returned for page-source commands.
+     */
+    public void setPageSource(String pageSource) {
+        this.pageSource = pageSource;
+    }
+
+    /**
+     * Makes element lookups with a strategy (e.g. "xpath") take at least the given time, like a slow device would.
+     */
+    public void setFindDelay(String strategy, long millis) {
+        findDelays.put(strategy, millis);
+    }
+
+    public void stop() {
+        server.stop(0);
+        logger.info("Fake Appium server stopped");
+    }
+
+    // ==================== REQUEST HANDLING ====================
+
+    @SuppressWarnings("unchecked")
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Object value = null;
+        commands.add(method + " " + path);
+
+        if ("POST".equals(method) && path.equals("/session")) {
+            Map<String, Object> body = mapper.readValue(exchange.getRequestBody(), Map.class);
+            Map<String, Object> capabilities = mergeCapabilities(body);
+            sessions.add(capabilities);
+
+            Map<String, Object> session = new HashMap<>();
+            session.put("sessionId", "fake-session-" + sessionCounter.incrementAndGet());
+            session.put("capabilities", capabilities);
+            value = session;
+        } else if ("GET".equals(method) && path.equals("/status")) {
+            value = Map.of("ready", true, "message", "fake appium server");
+        } else if ("GET".equals(method) && path.endsWith("/timeouts")) {
+            value = Map.of("implicit", 0, "pageLoad", 300000, "script", 30000);
+        } else if ("GET".equals(method) && path.endsWith("/window/rect")) {
+            value = Map.of("x", 0, "y", 0, "width", 1080, "height", 2340);
+        } else if ("GET".equals(method) && path.endsWith("/context")) {
+            // Page objects only use native-app locators when the session is not in a web view
+            value = "NATIVE_APP";
+        } else if ("GET".equals(method) && path.endsWith("/source")) {
+            value = pageSource;
+        } else if ("GET".equals(method) && (path.endsWith("/displayed") || path.endsWith("/enabled"))) {
+            String[] parts = path.split("/");
+            value = readFlag(parts[parts.length - 2], parts[parts.length - 1]);
+        } else if ("GET".equals(method) && path.endsWith("/text")) {
+            String[] parts = path.split("/");
+            value = readText(parts[parts.length - 2]);
+        } else if ("POST".equals(method) && (path.endsWith("/value") || path.endsWith("/clear"))) {
+            String[] parts = path.split("/");
+            Map<String, Object> body = mapper.readValue(exchange.getRequestBody(), Map.class);
+            String current = path.endsWith("/clear") ? "" : readText(parts[parts.length - 2]);
+            writeText(parts[parts.length - 2], path.endsWith("/clear") ? "" : current + body.getOrDefault("text", ""));
+        } else if ("POST".equals(method) && path.endsWith("/execute/sync")) {
+            Map<String, Object> body = mapper.readValue(exchange.getRequestBody(), Map.class);
+            List<Object> args = (List<Object>) body.getOrDefault("args", List.of());
+            scripts.add(String.valueOf(body.get("script")));
+            if ("mobile: replaceElementValue".equals(body.get("script")) && !args.isEmpty()) {
+                Map<String, Object> options = (Map<String, Object>) args.get(0);
+                writeText(String.valueOf(options.get("elementId")), String.valueOf(options.get("text")));
+            } else if ("mobile: scrollGesture".equals(body.get("script")) && !args.isEmpty()) {
+                value = scroll("down".equals(((Map<String, Object>) args.get(0)).get("direction")));
+            } else if ("mobile: deepLink".equals(body.get("script")) && !args.isEmpty()) {
+                openDeepLink(String.valueOf(((Map<String, Object>) args.get(0)).get("url")));
+            }
+        } else if ("POST".equals(method) && path.endsWith("/appium/execute_driver")) {
+            // Like a server started without --allow-insecure=execute_driver_script
+            respond(exchange, 500, Map.of("error", "unknown error",
+                    "message", "Potentially insecure feature 'execute_driver_script' has not been enabled"));
+            return;
+        } else if ("POST".equals(method) && path.endsWith("/actions")) {
+            actions.add(mapper.readValue(exchange.getRequestBody(), Map.class));
+        } else if ("POST".equals(method) && (path.endsWith("/element") || path.endsWith("/elements"))) {
+            Map<String, Object> body = mapper.readValue(exchange.getRequestBody(), Map.class);
+            List<Map<String, String>> found = findElements(String.valueOf(body.get("using")), String.valueOf(body.get("value")));
+            if (path.endsWith("/elements")) {
+                value = found;
+            } else if (!found.isEmpty()) {
+                value = found.get(0);
+            } else {
+                respond(exchange, 404, Map.of("error", "no such element", "message", "No element matches " + body.get("value")));
+                return;
+            }
+        }
+        respond(exchange, 200, value);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] response = mapper.writeValueAsBytes(Collections.singletonMap("value", value));
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(response);
+        }
+    }
+
+    /**
+     * Finds elements in the page source; each element id is the node's position in the document.
+     */
+    private List<Map<String, String>> findElements(String using, String value) {
+        List<Map<String, String>> elements = new ArrayList<>();
+        sleep(findDelays.getOrDefault(using, 0L));
+        Document snapshot = pageSource == null ? null : ElementStates.parse(pageSource);
+        // UiAutomator2 sources start with <hierarchy>, XCUITest sources with <AppiumAUT>
+        String xpath = ElementStates.toXPath(using, value, pageSource != null && pageSource.contains("<hierarchy"));
+        if (snapshot == null || xpath == null) {
+            return elements;
+        }
+        try {
+            XPath evaluator = XPathFactory.newInstance().newXPath();
+            NodeList all = (NodeList) evaluator.evaluate("//*", snapshot, XPathConstants.NODESET);
+            NodeList matches = (NodeList) evaluator.evaluate(xpath, snapshot, XPathConstants.NODESET);
+            for (int i = 0; i < matches.getLength(); i++) {
+                elements.add(Map.of(ELEMENT_KEY, "element-" + indexOf(all, matches.item(i))));
+            }
+        } catch (XPathExpressionException e) {
+            logger.debug("Fake server cannot evaluate {}: {}", xpath, e.getMessage());
+        }
+        return elements;
+    }
+
+    /**
+     * Moves to the next or previous scroll page.
+     * @return whether the screen can scroll further that way, like UiAutomator2's scrollGesture
+     */
+    private synchronized boolean scroll(boolean down) {
+        if (scrollPages.isEmpty()) {
+            return false;
+        }
+        scrollPage = Math.max(0, Math.min(scrollPages.size() - 1, scrollPage + (down ? 1 : -1)));
+        pageSource = scrollPages.get(scrollPage);
+        return down ? scrollPage < scrollPages.size() - 1 : scrollPage > 0;
+    }
+
+    /**
+     * Shows the source registered for the longest matching prefix; unknown links leave the screen as it is.
+     */
+    private void openDeepLink(String url) {
+        deepLinks.add(url);
+        deepLinkSources.keySet().stream()
+                .filter(url::startsWith)
+                .max(Comparator.comparingInt(String::length))
+                .ifPresent(prefix -> pageSource = deepLinkSources.get(prefix));
+    }
+
+    /**
+     * Reads a true/false attribute of a found element; attributes the source leaves out count as true.
+     */
+    private boolean readFlag(String elementId, String attribute) {
+        Element node = nodeOf(pageSource == null ? null : ElementStates.parse(pageSource), elementId);
+        if (node == null) {
+            return false;
+        }
+        String flag = node.getAttribute(attribute);
+        return flag.isEmpty() || Boolean.parseBoolean(flag);
+    }
+
+    /**
+     * Reads the text of a found element: the text attribute on Android, value on iOS.
+     */
+    private String readText(String elementId) {
+        Element node = nodeOf(pageSource == null ? null : ElementStates.parse(pageSource), elementId);
+        return node == null ? null : node.getAttribute(textAttribute());
+    }
+
+    /**
+     * Stores new text for a found element in the page source, as the app would show it.
+     */
+    private synchronized void writeText(String elementId, String text) {
+        Document source = pageSource == null ? null : ElementStates.parse(pageSource);
+        Element node = nodeOf(source, elementId);
+        if (node == null) {
+            return;
+        }
+        node.setAttribute(textAttribute(), text);
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            StringWriter xml = new StringWriter();
+            transformer.transform(new DOMSource(source), new StreamResult(xml));
+            pageSource = xml.toString();
+        } catch (TransformerException e) {
+            logger.debug("Fake server cannot update the page source: {}", e.getMessage());
+        }
+    }
+
+    private String textAttribute() {
+        return pageSource != null && pageSource.contains("<hierarchy") ? "text" : "value";
+    }
+
+    /**
+     * Gets the node an element id ("element-<position in the document>") refers to.
+     */
+    private static Element nodeOf(Document source, String elementId) {
+        if (source == null || !elementId.startsWith("element-")) {
+            return null;
+        }
+        NodeList all = source.getElementsByTagName("*");
+        int index = Integer.parseInt(elementId.substring("element-".length()));
+        return index < 0 || index >= all.getLength() ? null : (Element) all.item(index);
+    }
+
+    private static int indexOf(NodeList nodes, Node node) {
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Merges alwaysMatch with the first firstMatch entry and strips the "appium:" vendor prefix.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mergeCapabilities(Map<String, Object> body) {
+        Map<String, Object> merged = new HashMap<>();
+        Map<String, Object> w3c = (Map<String, Object>) body.getOrDefault("capabilities", Map.of());
+        merged.putAll((Map<String, Object>) w3c.getOrDefault("alwaysMatch", Map.of()));
+        List<Map<String, Object>> firstMatch = (List<Map<String, Object>>) w3c.getOrDefault("firstMatch", List.of());
+        if (!firstMatch.isEmpty()) {
+            merged.putAll(firstMatch.get(0));
+        }
+
+        Map<String, Object> capabilities = new HashMap<>();
+        merged.forEach((key, val) -> capabilities.put(key.startsWith("appium:") ? key.substring(7) : key, val));
+        return capabilities;
+    }
+
+    /**
+     * Runs a fake server until the process is stopped, e.g. to point a local run at it.
+     */
+    public static void main(String[] args) throws IOException {
+        FakeAppiumServer fake = new FakeAppiumServer(args.length > 0 ? Integer.parseInt(args[0]) : 0);
+        Runtime.getRuntime().addShutdownHook(new Thread(fake::stop));
+        logger.info("Use appiumUrl={} for fake devices", fake.getUrl());
+    }
+}
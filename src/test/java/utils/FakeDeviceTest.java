@@ -0,0 +1,69 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+
+/**
+ * Base class for framework unit tests that drive page objects and utilities against a FakeAppiumServer.
+ * One fake server and one Android session are opened per class. The session is bound to
+ * DriverManager around each test method, on the thread that runs it, so page objects find it
+ * whichever thread TestNG picks.
+ */
+public abstract class FakeDeviceTest {
+
+    protected FakeAppiumServer fakeServer;
+    protected AndroidDriver driver;
+
+    @BeforeClass
+    public void startFakeDevice() throws IOException {
+        fakeServer = new FakeAppiumServer();
+        configure(fakeServer);
+        DesiredCapabilities caps = new DesiredCapabilities();
+        caps.setCapability("platformName", "Android");
+        caps.setCapability("automationName", "UIAutomator2");
+        caps.setCapability("deviceName", "Fake Device");
+        driver = new AndroidDriver(new URL(fakeServer.getUrl()), caps);
+    }
+
+    /**
+     * Sets up the fake server (page source, delays, deep links) before the session is opened.
+     */
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource("<hierarchy/>");
+    }
+
+    @BeforeMethod
+    public void bindFakeDevice() {
+        DriverManager.setDriver(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void unbindFakeDevice() {
+        DriverManager.clearDriver();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeDevice() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (fakeServer != null) {
+            fakeServer.stop();
+        }
+    }
+
+    /**
+     * Counts the commands ending with a path suffix, e.g. "/execute/sync".
+     */
+    protected static int count(List<String> commands, String suffix) {
+        return (int) commands.stream().filter(command -> command.endsWith(suffix)).count();
+    }
+}
@@ -0,0 +1,66 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.CheckoutPage;
+
+import java.util.List;
+
+/**
+ * Fast Input Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Form fields are filled with one value-replacement command each, without the keyboard
+ * - Fields are read back only on their first fast fill
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Fast Input")
+public class FastInputTests extends FakeDeviceTest {
+
+    private static final String PAYMENT_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='checkout payment screen' displayed='true' enabled='true'>" +
+            "<android.widget.EditText content-desc='Full Name* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Card Number* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Expiration Date* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Security Code* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.view.ViewGroup content-desc='Review Order button' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(PAYMENT_SOURCE);
+    }
+
+    @Test
+    @Story("Keyboard-free Input")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify payment fields are set without keystrokes and only read back on their first fill")
+    public void verifyPaymentFieldsFilledWithoutKeystrokes() {
+        CheckoutPage checkoutPage = new CheckoutPage();
+
+        ReportUtils.step("Filling the payment form field by field", () -> {
+            checkoutPage.enterCardHolder("Test User");
+            checkoutPage.enterCardNumber("4111111111111111");
+            checkoutPage.enterExpirationDate("12/25");
+            checkoutPage.enterSecurityCode("123");
+        });
+        List<String> firstFill = fakeServer.getCommands();
+
+        ReportUtils.step("Filling the card holder again", () -> checkoutPage.enterCardHolder("Other User"));
+        List<String> secondFill = fakeServer.getCommands().subList(firstFill.size(), fakeServer.getCommands().size());
+
+        String source = DriverManager.getDriver().getPageSource();
+        ReportUtils.step("Verifying values were set in one command per field", () -> {
+            Validations.validateTrue(source.contains("4111111111111111") && source.contains("12/25") && source.contains("Other User"),
+                    "The fields should hold the typed values: " + source);
+            Validations.validateEquals(count(firstFill, "/execute/sync"), 4, "Each field should be set with one command");
+            Validations.validateEquals(count(firstFill, "/value") + count(firstFill, "/clear"), 0, "No keystrokes should be sent");
+            Validations.validateEquals(count(secondFill, "/text"), 0, "A field already verified should not be read back");
+            Validations.validateTrue(FastInput.getReport().contains("CheckoutPage.cardNumberInput"),
+                    "Fill times should be reported per field: " + FastInput.getReport());
+        });
+    }
+}
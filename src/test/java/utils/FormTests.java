@@ -0,0 +1,65 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.CheckoutPage;
+
+import java.util.List;
+
+/**
+ * Form Fill Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - A whole checkout screen is filled without keystrokes and verified with one snapshot
+ * - Servers without driver scripts fall back to one fast-input command per field
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Form Fill")
+public class FormTests extends FakeDeviceTest {
+
+    private static final String ADDRESS_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='checkout address screen' displayed='true' enabled='true'>" +
+            "<android.widget.EditText content-desc='Full Name* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Address Line 1* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Address Line 2 input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='City* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='State/Region input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Zip Code* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.widget.EditText content-desc='Country* input field' text='' displayed='true' enabled='true'/>" +
+            "<android.view.ViewGroup content-desc='To Payment button' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(ADDRESS_SOURCE);
+    }
+
+    @Test
+    @Story("Batch Form Fill")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify the address screen is filled without keystrokes and verified with a single snapshot")
+    public void verifyAddressFilledAndVerifiedInOneRead() {
+        CheckoutPage checkoutPage = new CheckoutPage();
+
+        CheckoutPage.Address address = new CheckoutPage.Address("Rebecca Winter", "Mandorley 112", "Entrance 1",
+                "Truro", "Cornwall", "89750", "United Kingdom");
+
+        ReportUtils.step("Filling the address", () -> checkoutPage.fillAddress(address));
+
+        List<String> commands = fakeServer.getCommands();
+        String source = DriverManager.getDriver().getPageSource();
+        ReportUtils.step("Verifying every field was set and read back once", () -> {
+            Validations.validateTrue(source.contains("Rebecca Winter") && source.contains("Mandorley 112")
+                            && source.contains("89750") && source.contains("United Kingdom"),
+                    "The fields should hold the address: " + source);
+            Validations.validateEquals(count(commands, "/appium/execute_driver"), 1, "A driver script should be tried once");
+            Validations.validateEquals(count(commands, "/execute/sync"), 7, "Each field should then be set with one command");
+            Validations.validateEquals(count(commands, "/value") + count(commands, "/clear"), 0, "No keystrokes should be sent");
+            Validations.validateEquals(count(commands, "/text"), 0, "Fields should not be read back one by one");
+            Validations.validateEquals(count(commands, "/source"), 1, "All fields should be verified with one snapshot");
+        });
+    }
+}
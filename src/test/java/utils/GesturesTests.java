@@ -0,0 +1,96 @@
+package utils;
+
+import io.appium.java_client.AppiumBy;
+import io.qameta.allure.*;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.ProductDetailsPage;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gesture Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Repeated taps are sent as one W3C action sequence instead of one click per tap
+ * - Drivers without W3C actions fall back to one click per tap
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Gestures")
+public class GesturesTests extends FakeDeviceTest {
+
+    private static final String PRODUCT_DETAILS_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='product screen' displayed='true' enabled='true'>" +
+            "<android.view.ViewGroup content-desc='counter plus button' displayed='true' enabled='true'/>" +
+            "<android.widget.TextView content-desc='counter amount' text='1' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(PRODUCT_DETAILS_SOURCE);
+    }
+
+    @Test
+    @Story("Compiled Action Sequences")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify increasing the quantity by three sends one action sequence with three taps")
+    @SuppressWarnings("unchecked")
+    public void verifyRepeatedTapsSentAsOneSequence() {
+        ProductDetailsPage productDetailsPage = new ProductDetailsPage();
+
+        ReportUtils.step("Increasing the quantity three times", () -> productDetailsPage.increaseQuantity(3));
+
+        List<Map<String, Object>> requests = fakeServer.getActions();
+        ReportUtils.step("Verifying a single action request carried every tap", () -> {
+            Validations.validateEquals(requests.size(), 1, "All taps should be sent in one performActions request");
+            Map<String, Object> sequence = ((List<Map<String, Object>>) requests.get(0).get("actions")).get(0);
+            long pointerDowns = ((List<Map<String, Object>>) sequence.get("actions")).stream()
+                    .filter(action -> "pointerDown".equals(action.get("type")))
+                    .count();
+            Validations.validateEquals((int) pointerDowns, 3, "The sequence should tap three times");
+            Validations.validateFalse(fakeServer.getCommands().stream().anyMatch(command -> command.endsWith("/click")),
+                    "No per-tap element clicks should be sent");
+        });
+    }
+
+    @Test
+    @Story("Compiled Action Sequences")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a driver that cannot perform W3C actions gets one click per tap instead of an error")
+    public void verifyTapsFallBackToClicksWithoutActions() {
+        WebElement plusButton = driver.findElement(AppiumBy.accessibilityId("counter plus button"));
+        int actionsBefore = fakeServer.getActions().size();
+        int clicksBefore = count(fakeServer.getCommands(), "/click");
+        DriverManager.setDriver(withoutActions(driver));
+
+        ReportUtils.step("Tapping twice on a driver without W3C actions", () -> Gestures.tap(plusButton, 2));
+
+        int clicks = count(fakeServer.getCommands(), "/click") - clicksBefore;
+        int actions = fakeServer.getActions().size() - actionsBefore;
+        ReportUtils.step("Verifying the taps went out as clicks", () -> {
+            Validations.validateEquals(clicks, 2, "Each tap should be sent as one element click");
+            Validations.validateEquals(actions, 0, "No action sequence should be sent");
+        });
+    }
+
+    /**
+     * Wraps a driver as a plain WebDriver, like a decorator that does not pass Interactive through.
+     */
+    private static WebDriver withoutActions(WebDriver target) {
+        return (WebDriver) Proxy.newProxyInstance(GesturesTests.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
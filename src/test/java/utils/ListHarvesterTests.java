@@ -0,0 +1,134 @@
+package utils;
+
+import constants.Products;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.*;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.ProductsPage;
+
+import java.net.URL;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * List Harvester Test Suite
+ * Runs against a local fake Appium server whose product grid only renders part of the catalog at a time:
+ * - The whole catalog is harvested with as few scrolls as it takes, then cached
+ * - Products that are not rendered can still be tapped, and sort order is checked against the catalog
+ * - Catalog positions follow the app's default order even when the grid was sorted otherwise at harvest
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("List Harvesting")
+public class ListHarvesterTests extends FakeDeviceTest {
+
+    private static final String TOP_PAGE = page(
+            item("Sauce Labs Backpack", "$29.99") +
+            item("Sauce Labs Bike Light", "$9.99") +
+            item("Sauce Labs Bolt T-Shirt", "$15.99") +
+            // Cut off at the bottom edge: the name is rendered, the price is not
+            "<android.view.ViewGroup content-desc='store item' displayed='true' enabled='true'>" +
+            "<android.widget.TextView content-desc='store item text' text='Sauce Labs Fleece Jacket' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>");
+
+    private static final String BOTTOM_PAGE = page(
+            item("Sauce Labs Bolt T-Shirt", "$15.99") +
+            item("Sauce Labs Fleece Jacket", "$49.99") +
+            item("Sauce Labs Onesie", "$7.99") +
+            item("Test.allTheThings() T-Shirt", "$15.99"));
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setScrollPages(TOP_PAGE, BOTTOM_PAGE);
+    }
+
+    @Test
+    @Story("Catalog Harvest")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify the whole catalog is harvested with one scroll, cached, and used to reach products below the fold")
+    public void verifyCatalogHarvestedAndProductsBelowTheFoldTapped() {
+        ProductsPage productsPage = new ProductsPage();
+
+        ProductsPage.Catalog catalog = productsPage.getCatalog();
+        int harvestScrolls = scrollCount();
+        ReportUtils.step("Verifying the harvested catalog", () -> {
+            Validations.validateEquals(catalog.size(), Products.values().length, "Every product should be harvested once: " + catalog);
+            Validations.validateEquals(catalog.get(Products.ONESIE.getName()).getPosition(), Products.ONESIE.getIndex(),
+                    "The Onesie should keep its grid position");
+            Validations.validateEquals(catalog.get(Products.FLEECE_JACKET.getName()).getPrice(), "$49.99",
+                    "A price cut off on one page should be filled in from the next");
+            Validations.validateEquals(harvestScrolls, 2, "One page down and back up should be enough");
+        });
+
+        ReportUtils.step("Verifying the default order against the catalog", () -> {
+            Validations.validateTrue(productsPage.isSortedBy(ProductsPage.SortOrder.NAME_ASC), "Products should be listed by name");
+            Validations.validateFalse(productsPage.isSortedBy(ProductsPage.SortOrder.PRICE_ASC), "Products are not listed by price");
+        });
+
+        ReportUtils.step("Tapping the last product, which is not rendered", () -> productsPage.tapOnProduct(Products.TEST_TSHIRT));
+
+        ReportUtils.step("Verifying it was scrolled to and tapped without a new harvest", () -> {
+            Validations.validateEquals(productsPage.getProductCount(), Products.values().length, "The catalog should be cached");
+            Validations.validateEquals(scrollCount(), harvestScrolls + 1, "Reaching the product should take one scroll");
+            Validations.validateTrue(fakeServer.getCommands().stream().anyMatch(command -> command.endsWith("/click")),
+                    "The product should be tapped");
+        });
+    }
+
+    @Test
+    @Story("Catalog Harvest")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a catalog harvested from a grid sorted by name descending still numbers products in default order")
+    public void verifyCatalogPositionsIgnoreSortAtHarvest() throws Exception {
+        // A session of its own, since catalogs are kept per session
+        FakeAppiumServer sortedServer = new FakeAppiumServer();
+        sortedServer.setScrollPages(page(
+                item("Test.allTheThings() T-Shirt", "$15.99") +
+                item("Sauce Labs Onesie", "$7.99") +
+                item("Sauce Labs Fleece Jacket", "$49.99") +
+                item("Sauce Labs Bolt T-Shirt", "$15.99") +
+                item("Sauce Labs Bike Light", "$9.99") +
+                item("Sauce Labs Backpack", "$29.99")));
+        DesiredCapabilities caps = new DesiredCapabilities();
+        caps.setCapability("platformName", "Android");
+        caps.setCapability("automationName", "UIAutomator2");
+        caps.setCapability("deviceName", "Sorted Fake Device");
+        AndroidDriver sortedDriver = new AndroidDriver(new URL(sortedServer.getUrl()), caps);
+        try {
+            DriverManager.setDriver(sortedDriver);
+            ProductsPage.Catalog catalog = new ProductsPage().getCatalog();
+            List<String> names = catalog.getEntries().stream().map(ProductsPage.CatalogEntry::getName).collect(Collectors.toList());
+
+            ReportUtils.step("Verifying positions follow the default order", () -> {
+                Validations.validateEquals(names.get(0), Products.BACKPACK.getName(), "Position 1 should be the first product by default");
+                Validations.validateEquals(catalog.get(Products.ONESIE.getName()).getPosition(), Products.ONESIE.getIndex(),
+                        "Positions should match the Products indexes");
+            });
+        } finally {
+            DriverManager.clearDriver();
+            sortedDriver.quit();
+            sortedServer.stop();
+        }
+    }
+
+    private int scrollCount() {
+        return (int) fakeServer.getScripts().stream().filter("mobile: scrollGesture"::equals).count();
+    }
+
+    private static String page(String items) {
+        return "<hierarchy>" +
+                "<android.view.ViewGroup content-desc='products screen' displayed='true' enabled='true'>" +
+                items +
+                "</android.view.ViewGroup>" +
+                "</hierarchy>";
+    }
+
+    private static String item(String name, String price) {
+        return "<android.view.ViewGroup content-desc='store item' displayed='true' enabled='true'>" +
+                "<android.widget.TextView content-desc='store item text' text='" + name + "' displayed='true' enabled='true'/>" +
+                "<android.widget.TextView content-desc='store item price' text='" + price + "' displayed='true' enabled='true'/>" +
+                "</android.view.ViewGroup>";
+    }
+}
@@ -0,0 +1,69 @@
+package utils;
+
+import io.appium.java_client.AppiumBy;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.ProductsPage;
+
+/**
+ * Locator Profiler Test Suite
+ * Runs against a local fake Appium server whose XPath lookups are slow, like on a device:
+ * - Lookups are timed per locator and named after page-object fields
+ * - Faster strategies that find the same element are recommended with measured timings
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Locator Profiler")
+public class LocatorProfilerTests extends FakeDeviceTest {
+
+    private static final String PRODUCTS_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='products screen' displayed='true' enabled='true'>" +
+            "<android.view.ViewGroup content-desc='cart badge' displayed='true' enabled='true'>" +
+            "<android.widget.TextView text='2' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "<android.view.ViewGroup content-desc='store item' displayed='true' enabled='true'>" +
+            "<android.widget.TextView text='Sauce Labs Backpack' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    @Override
+    protected void configure(FakeAppiumServer server) {
+        server.setPageSource(PRODUCTS_SOURCE);
+        server.setFindDelay("xpath", 150);
+    }
+
+    @BeforeClass
+    public void installMetrics() {
+        CommandMetrics.install(driver);
+    }
+
+    @Test
+    @Story("Strategy Advice")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify slow XPath fields are ranked first and an equivalent accessibility id is recommended")
+    public void verifySlowXPathRankedAndReplaced() {
+        new ProductsPage();
+        By firstProduct = PageLocators.of(ProductsPage.class, "firstProduct");
+
+        ReportUtils.step("Looking up a slow XPath field and a fast accessibility id", () -> {
+            Validations.validateEquals(driver.findElements(firstProduct).size(), 1, "First product should be found");
+            driver.findElements(firstProduct);
+            driver.findElement(AppiumBy.accessibilityId("products screen"));
+        });
+
+        LocatorProfiler.advise(driver);
+        String report = LocatorProfiler.getReport();
+
+        ReportUtils.step("Verifying the profile and the recommendation", () -> {
+            Validations.validateTrue(report.indexOf("ProductsPage.firstProduct") < report.indexOf("ProductsPage.productsScreen"),
+                    "The XPath field should rank above the accessibility id field: " + report);
+            Validations.validateTrue(report.contains("use:  @AndroidFindBy(accessibility = \"store item\")"),
+                    "An accessibility id should be recommended for the first product: " + report);
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * Page Readiness Test Suite
+ * Runs against a local fake Appium server standing in for a browser session:
+ * - Navigation only polls readiness when the page-load strategy returns early
+ * - The pending-request check does not report 0 when the page has no request tracker
+ */
+@Listeners(TestListener.class)
+@Epic("Web Testing")
+@Feature("Page Readiness")
+public class PageReadinessTests extends FakeDeviceTest {
+
+    private static final String URL = "https://example.com/";
+
+    @AfterMethod(alwaysRun = true)
+    public void clearPageLoadStrategy() {
+        System.clearProperty("web.pageLoadStrategy");
+    }
+
+    @Test
+    @Story("Navigation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify navigation with the normal strategy does not poll readiness after get()")
+    public void verifyNormalStrategySkipsReadinessPoll() {
+        System.setProperty("web.pageLoadStrategy", "normal");
+        int scriptsBefore = fakeServer.getScripts().size();
+
+        Actions.navigateTo(URL);
+
+        int scripts = fakeServer.getScripts().size() - scriptsBefore;
+        ReportUtils.step("Verifying no readiness script was run", () ->
+                Validations.validateEquals(scripts, 0, "get() already waited for the load event"));
+    }
+
+    @Test
+    @Story("Navigation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify navigation with the eager strategy waits until the DOM is parsed")
+    public void verifyEagerStrategyPollsReadiness() {
+        System.setProperty("web.pageLoadStrategy", "eager");
+        int scriptsBefore = fakeServer.getScripts().size();
+
+        Actions.navigateTo(URL);
+
+        int scripts = fakeServer.getScripts().size() - scriptsBefore;
+        ReportUtils.step("Verifying the document state was checked", () ->
+                Validations.validateEquals(scripts, 1, "Eager navigation should check readyState once the DOM is parsed"));
+    }
+
+    @Test
+    @Story("Pending Requests")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a page without the request tracker falls back to the load event instead of reporting no requests")
+    public void verifyUntrackedPageFallsBackToLoadEvent() {
+        int scriptsBefore = fakeServer.getScripts().size();
+
+        // The fake session answers scripts with null: no tracker, and a readyState that is not complete
+        boolean idle = PageReadiness.noPendingRequests().apply(driver);
+
+        ReportUtils.step("Verifying the check waited for the load event", () -> {
+            Validations.validateFalse(idle, "An unknown request count should not read as no pending requests");
+            Validations.validateTrue(fakeServer.getScripts().subList(scriptsBefore, fakeServer.getScripts().size())
+                            .contains("return document.readyState;"),
+                    "The check should fall back to the document's readyState");
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.mobile.CartPage;
+import pages.mobile.LoginPage;
+
+/**
+ * Presence/Absence Probe Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Negative checks answer once the screen settles instead of after the full timeout
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Presence Probes")
+public class ProbesTests extends FakeDeviceTest {
+
+    private static final long FAST_ANSWER_MILLIS = 2000;
+
+    private static final String EMPTY_CART_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='cart screen' displayed='true' enabled='true'>" +
+            "<android.widget.TextView text='No Items' displayed='true' enabled='true'/>" +
+            "<android.view.ViewGroup content-desc='Go Shopping button' displayed='true' enabled='true'/>" +
+            "</android.view.ViewGroup>" +
+            "</hierarchy>";
+
+    private static final String PRODUCTS_SOURCE =
+            "<hierarchy>" +
+            "<android.view.ViewGroup content-desc='products screen' displayed='true' enabled='true'/>" +
+            "</hierarchy>";
+
+    @Test
+    @Story("Negative Checks")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify an empty cart answers hasItemsInCart and isCartEmpty without waiting for a timeout")
+    public void verifyCartChecksAnswerFast() {
+        fakeServer.setPageSource(EMPTY_CART_SOURCE);
+        CartPage cartPage = new CartPage();
+
+        long start = System.currentTimeMillis();
+        boolean hasItems = cartPage.hasItemsInCart();
+        long hasItemsMillis = System.currentTimeMillis() - start;
+        boolean empty = cartPage.isCartEmpty();
+
+        ReportUtils.step("Verifying the empty cart is recognised quickly", () -> {
+            Validations.validateFalse(hasItems, "An empty cart has no items");
+            Validations.validateTrue(empty, "The cart should be empty");
+            Validations.validateTrue(hasItemsMillis < FAST_ANSWER_MILLIS,
+                    "hasItemsInCart should not wait for the timeout: " + hasItemsMillis + " ms");
+        });
+    }
+
+    @Test
+    @Story("Negative Checks")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify a login that went through answers isUsernameErrorDisplayed without waiting for a timeout")
+    public void verifyLoginErrorCheckAnswersFast() {
+        fakeServer.setPageSource(PRODUCTS_SOURCE);
+        LoginPage loginPage = new LoginPage();
+
+        long start = System.currentTimeMillis();
+        boolean usernameError = loginPage.isUsernameErrorDisplayed();
+        long millis = System.currentTimeMillis() - start;
+
+        ReportUtils.step("Verifying no error is reported, quickly", () -> {
+            Validations.validateFalse(usernameError, "No username error should be shown on the products screen");
+            Validations.validateTrue(millis < FAST_ANSWER_MILLIS,
+                    "isUsernameErrorDisplayed should not wait for the timeout: " + millis + " ms");
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.*;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session Record/Replay Test Suite
+ * Runs against a local fake Appium server, so no emulator is needed:
+ * - Commands of a live session are recorded to a file
+ * - The same commands replay from the file without any server
+ * - Sessions recorded side by side replay apart, and a new run replaces the last one's recording
+ */
+@Listeners(TestListener.class)
+@Epic("Mobile Testing")
+@Feature("Session Replay")
+public class SessionReplayTests {
+
+    private static final String FIRST_SOURCE = "<hierarchy><android.widget.TextView text='first'/></hierarchy>";
+    private static final String OTHER_SOURCE = "<hierarchy><android.widget.TextView text='other'/></hierarchy>";
+
+    FakeAppiumServer fakeServer;
+    Path recording;
+
+    @BeforeClass
+    public void startFakeServer() throws IOException {
+        fakeServer = new FakeAppiumServer();
+        recording = Files.createTempFile("session-recording", ".jsonl");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeServer() throws IOException {
+        if (fakeServer != null) {
+            fakeServer.stop();
+        }
+        if (recording != null) {
+            Files.deleteIfExists(recording);
+        }
+    }
+
+    @Test
+    @Story("Record and Replay")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify a recorded session replays every command without a server")
+    public void verifyRecordedSessionReplays() throws Exception {
+        ReportUtils.step("Recording a session against the fake server", () -> {
+            HttpClient.Factory factory = new SessionRecorder(recording).wrap(HttpClient.Factory.createDefault());
+            AndroidDriver driver = new AndroidDriver(toUrl(fakeServer.getUrl()), factory, getCapabilities());
+            runCommands(driver);
+        });
+
+        List<String> lines = Files.readAllLines(recording);
+        ReportUtils.step("Verifying the recording holds every command", () -> {
+            Validations.validateEquals(lines.size(), 4, "New session, 2 commands and quit should be recorded");
+            Validations.validateTrue(lines.stream().noneMatch(line -> line.contains("fake-session-")),
+                    "Session ids should be replaced with a placeholder");
+        });
+
+        ReplayServer replay = new ReplayServer(recording);
+        try {
+            ReportUtils.step("Replaying the same commands", () -> {
+                AndroidDriver driver = new AndroidDriver(toUrl(replay.getUrl()), getCapabilities());
+                runCommands(driver);
+            });
+
+            ReportUtils.step("Verifying every command was served from the recording", () -> {
+                Validations.validateEquals(replay.getServedCount(), 4, "Every replayed command should be served");
+                Validations.validateEquals(replay.getMissedCount(), 0, "No command should be missing");
+                Validations.validateEquals(fakeServer.getSessions().size(), 1, "Replay should not reach the server");
+            });
+        } finally {
+            replay.stop();
+        }
+    }
+
+    @Test
+    @Story("Record and Replay")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify two sessions recorded into one file each replay their own responses")
+    public void verifyParallelSessionsReplayApart() throws Exception {
+        FakeAppiumServer firstServer = new FakeAppiumServer();
+        FakeAppiumServer otherServer = new FakeAppiumServer();
+        Path sharedRecording = Files.createTempFile("parallel-recording", ".jsonl");
+        Files.writeString(sharedRecording, "{\"stale\":\"line from an earlier run\"}\n");
+        try {
+            firstServer.setPageSource(FIRST_SOURCE);
+            otherServer.setPageSource(OTHER_SOURCE);
+
+            ReportUtils.step("Recording two sessions into one file, interleaved", () -> {
+                AndroidDriver first = new AndroidDriver(toUrl(firstServer.getUrl()),
+                        new SessionRecorder(sharedRecording).wrap(HttpClient.Factory.createDefault()), getCapabilities());
+                AndroidDriver other = new AndroidDriver(toUrl(otherServer.getUrl()),
+                        new SessionRecorder(sharedRecording).wrap(HttpClient.Factory.createDefault()), getCapabilities());
+                other.getPageSource();
+                first.getPageSource();
+                first.quit();
+                other.quit();
+            });
+
+            List<String> lines = Files.readAllLines(sharedRecording);
+            ReportUtils.step("Verifying the file holds only this run, tagged by session", () -> {
+                Validations.validateEquals(lines.size(), 6, "Two sessions of new session, page source and quit");
+                Validations.validateTrue(lines.stream().noneMatch(line -> line.contains("stale")),
+                        "The earlier run's lines should be gone");
+                Validations.validateTrue(lines.stream().allMatch(line -> line.contains("\"session\"")),
+                        "Every line should carry its session number");
+            });
+
+            ReplayServer replay = new ReplayServer(sharedRecording);
+            try {
+                AndroidDriver first = new AndroidDriver(toUrl(replay.getUrl()), getCapabilities());
+                AndroidDriver other = new AndroidDriver(toUrl(replay.getUrl()), getCapabilities());
+                // Read in the opposite order to the recording
+                String firstSource = first.getPageSource();
+                String otherSource = other.getPageSource();
+                first.quit();
+                other.quit();
+
+                ReportUtils.step("Verifying each session got its own responses", () -> {
+                    Validations.validateEquals(firstSource, FIRST_SOURCE, "The first session should replay its own screen");
+                    Validations.validateEquals(otherSource, OTHER_SOURCE, "The other session should replay its own screen");
+                    Validations.validateEquals(replay.getMissedCount(), 0, "No command should be missing");
+                });
+            } finally {
+                replay.stop();
+            }
+        } finally {
+            firstServer.stop();
+            otherServer.stop();
+            Files.deleteIfExists(sharedRecording);
+        }
+    }
+
+    private void runCommands(AndroidDriver driver) {
+        driver.getPageSource();
+        driver.executeScript("mobile: clearApp", Map.of("appId", "com.saucelabs.mydemoapp.rn"));
+        driver.quit();
+    }
+
+    private DesiredCapabilities getCapabilities() {
+        DesiredCapabilities caps = new DesiredCapabilities();
+        caps.setCapability("platformName", "Android");
+        caps.setCapability("automationName", "UIAutomator2");
+        caps.setCapability("deviceName", "Replay Device");
+        return caps;
+    }
+
+    private URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package utils;
+
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Test methods that only sleep, for a nested TestNG run that measures how many run side by side.
+ * One method per instance, so a parallel=methods suite has prepare()'s count of methods to spread over its threads.
+ * Listed in no suite file and outside surefire's name patterns, so it only runs inside another test.
+ */
+public class SleepingMethods {
+
+    private static final Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+    private static final Queue<String> virtualThreadNames = new ConcurrentLinkedQueue<>();
+    private static volatile int count;
+    private static volatile long sleepMillis;
+
+    /**
+     * Sets up the next run and forgets the threads of the previous one.
+     */
+    public static void prepare(int methods, long millis) {
+        count = methods;
+        sleepMillis = millis;
+        threadNames.clear();
+        virtualThreadNames.clear();
+    }
+
+    @Factory
+    public static Object[] create() {
+        Object[] instances = new Object[count];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = new SleepingMethods();
+        }
+        return instances;
+    }
+
+    @Test
+    public void sleep() throws Exception {
+        Thread thread = Thread.currentThread();
+        threadNames.add(thread.getName());
+        // Thread.isVirtual() is Java 21+
+        if (TestThreads.supportsVirtualThreads() && (boolean) Thread.class.getMethod("isVirtual").invoke(thread)) {
+            virtualThreadNames.add(thread.getName());
+        }
+        Thread.sleep(sleepMillis);
+    }
+
+    /**
+     * Gets the names of the threads the methods ran on, one per method.
+     */
+    public static List<String> getThreadNames() {
+        return new ArrayList<>(threadNames);
+    }
+
+    /**
+     * Gets how many methods ran on a virtual thread.
+     */
+    public static int getVirtualThreadCount() {
+        return virtualThreadNames.size();
+    }
+}
@@ -0,0 +1,102 @@
+package utils;
+
+import io.qameta.allure.*;
+import org.testng.SkipException;
+import org.testng.TestNG;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * Test Threads Test Suite
+ * Runs a nested TestNG suite of sleeping test methods, so no device is needed:
+ * - TestThreadExecutorFactory runs the methods side by side on its own threads
+ * - On Java 21+ virtual threads finish the same methods at least as fast as platform threads
+ */
+@Listeners(TestListener.class)
+@Epic("Framework")
+@Feature("Test Threads")
+public class TestThreadsTests {
+
+    private static final int METHODS = 200;
+    private static final long SLEEP_MS = 200;
+
+    @Test
+    @Story("Parallel Test Methods")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify sleeping test methods run side by side on the factory's platform threads")
+    public void verifySleepingMethodsRunSideBySide() {
+        ReportUtils.addStep("Running " + METHODS + " sleeping methods on platform threads");
+        SuiteRun run = runSleepingMethods(false);
+
+        ReportUtils.step("Verifying the methods overlapped", () -> {
+            Validations.validateEquals(run.threads.size(), METHODS, "Every sleeping method should have run");
+            Validations.validateTrue(run.threads.stream().allMatch(thread -> thread.startsWith("testng-worker-")),
+                    "Methods should run on the factory's testng-worker threads");
+            Validations.validateTrue(run.wallMillis < METHODS * SLEEP_MS / 10,
+                    "Methods should overlap, took " + run.wallMillis + " ms");
+        });
+    }
+
+    @Test
+    @Story("Virtual Threads")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify sleeping test methods take no longer on virtual threads than on platform threads")
+    public void verifyVirtualThreadsKeepUpWithPlatformThreads() {
+        if (!TestThreads.supportsVirtualThreads()) {
+            throw new SkipException("Virtual threads need Java 21+, running " + Runtime.version().feature());
+        }
+        ReportUtils.addStep("Running " + METHODS + " sleeping methods on platform, then virtual threads");
+        SuiteRun platform = runSleepingMethods(false);
+        SuiteRun virtual = runSleepingMethods(true);
+
+        ReportUtils.step("Comparing wall times", () -> {
+            Validations.validateEquals(virtual.virtualThreads, METHODS, "Every method should run on a virtual thread");
+            Validations.validateTrue(virtual.wallMillis <= platform.wallMillis + SLEEP_MS,
+                    "Virtual threads took " + virtual.wallMillis + " ms, platform threads " + platform.wallMillis + " ms");
+        });
+    }
+
+    /**
+     * Runs METHODS sleeping test methods in parallel, one thread each, on a TestThreadExecutorFactory.
+     */
+    private static SuiteRun runSleepingMethods(boolean virtual) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Sleeping Methods");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(METHODS);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Sleeping Methods");
+        test.setXmlClasses(List.of(new XmlClass(SleepingMethods.class)));
+
+        TestNG testng = new TestNG(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(List.of(suite));
+        testng.setExecutorFactory(new TestThreadExecutorFactory(virtual));
+        SleepingMethods.prepare(METHODS, SLEEP_MS);
+
+        long start = System.currentTimeMillis();
+        testng.run();
+        long wallMillis = System.currentTimeMillis() - start;
+        if (testng.hasFailure()) {
+            throw new IllegalStateException("Sleeping methods failed on " + (virtual ? "virtual" : "platform") + " threads");
+        }
+        return new SuiteRun(SleepingMethods.getThreadNames(), SleepingMethods.getVirtualThreadCount(), wallMillis);
+    }
+
+    private static class SuiteRun {
+        final List<String> threads;
+        final int virtualThreads;
+        final long wallMillis;
+
+        SuiteRun(List<String> threads, int virtualThreads, long wallMillis) {
+            this.threads = threads;
+            this.virtualThreads = virtualThreads;
+            this.wallMillis = wallMillis;
+        }
+    }
+}